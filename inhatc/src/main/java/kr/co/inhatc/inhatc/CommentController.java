@@ -20,6 +20,8 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import kr.co.inhatc.inhatc.dto.CommentRequestDTO;
 import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
+import kr.co.inhatc.inhatc.service.CommentRateLimiter;
 import kr.co.inhatc.inhatc.service.CommentService;
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentRateLimiter commentRateLimiter;
 
     /**
      * 특정 게시글의 모든 댓글 조회 (페이징 지원)
@@ -52,6 +55,46 @@ public class CommentController {
         }
     }
 
+    /**
+     * 댓글 스레드 조회 (커서 기반 페이징)
+     * 최상위 댓글만 최신순으로 페이징하며, 각 댓글에 답글 수와 앞쪽 답글 일부를 포함
+     * GET /api/posts/{postId}/comments?cursor=&size=20&replies=3 (첫 페이지)
+     * GET /api/posts/{postId}/comments?cursor={nextCursor}&size=20&replies=3 (다음 페이지)
+     */
+    @GetMapping(value = "/{postId}/comments", params = "cursor")
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies) {
+        return ResponseEntity.ok(commentService.getThreadsByCursor(postId, cursor, size, replies));
+    }
+
+    /**
+     * 특정 댓글의 답글 조회 (커서 기반 페이징, 작성순)
+     * GET /api/posts/{postId}/comments/{commentId}/replies?cursor=&size=20
+     * (스레드 조회 결과의 repliesNextCursor를 cursor로 전달하면 미리보기 이후 답글부터 조회)
+     */
+    @GetMapping("/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getRepliesByCursor(postId, commentId, cursor, size));
+    }
+
+    /**
+     * 특정 댓글의 하위 트리 조회 (자신 포함, 전위 순회 순서, depth 포함)
+     * GET /api/posts/{postId}/comments/{commentId}/subtree
+     */
+    @GetMapping("/{postId}/comments/{commentId}/subtree")
+    public ResponseEntity<List<CommentResponseDTO>> getSubtree(
+            @PathVariable Long postId,
+            @PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.getSubtree(postId, commentId));
+    }
+
     /**
      * 댓글 작성
      * POST /api/posts/{postId}/comments
@@ -65,6 +108,11 @@ public class CommentController {
         // 로그인된 사용자 이메일을 세션에서 가져옴
         String loginEmail = (String) session.getAttribute("loginEmail");
 
+        // 트랜잭션(DB 커넥션)을 잡기 전에 작성 빈도 제한
+        if (loginEmail != null) {
+            commentRateLimiter.acquire(loginEmail, postId);
+        }
+
         // DTO에 세팅
         commentRequestDTO.setUser(loginEmail);
         commentRequestDTO.setArticle(postId);
@@ -90,9 +138,11 @@ public class CommentController {
     @DeleteMapping("/{postId}/comments/{commentId}")
     public ResponseEntity<String> deleteComment(
             @PathVariable Long postId,
-            @PathVariable Long commentId
+            @PathVariable Long commentId,
+            HttpSession session
     ) {
-        commentService.deleteComment(postId, commentId);
+        String loginEmail = (String) session.getAttribute("loginEmail");
+        commentService.deleteComment(postId, commentId, loginEmail);
         return ResponseEntity.ok("댓글이 삭제되었습니다.");
     }
 
@@ -36,7 +36,7 @@ public class ImageController {
     @GetMapping("/api/image/{id}")
     public ResponseEntity<Resource> getPostImage(@PathVariable Long id) throws MalformedURLException {
         try {
-            PostResponseDTO post = postService.findById(id);
+            PostResponseDTO post = postService.findById(id, false);
             
             if (post == null || post.getImgsource() == null || post.getImgsource().isEmpty()) {
                 return ResponseEntity.notFound().build();
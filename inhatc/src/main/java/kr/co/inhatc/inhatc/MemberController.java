@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -15,12 +17,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import kr.co.inhatc.inhatc.dto.MemberDTO;
+import kr.co.inhatc.inhatc.exception.CustomException;
+import kr.co.inhatc.inhatc.exception.ErrorCode;
+import kr.co.inhatc.inhatc.service.CommentExportService;
 import kr.co.inhatc.inhatc.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +39,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberController {
 
     private final MemberService memberService;
+    private final CommentExportService commentExportService;
 
     /**
      * 회원가입
@@ -66,6 +73,8 @@ public class MemberController {
             HttpSession newSession = request.getSession(true);
             // 세션에 이메일 저장
             newSession.setAttribute("loginEmail", email);
+            // 회원 ID도 함께 저장하여 좋아요 등에서 회원 재조회 생략
+            newSession.setAttribute("loginMemberId", memberDTO.getId());
             log.info("로그인 성공: {} (세션 ID 변경됨)", email);
 
             return "redirect:/main";
@@ -106,6 +115,24 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 댓글 내보내기 (NDJSON 스트리밍, 한 줄에 댓글 하나)
+     * GET /api/members/me/comments/export
+     */
+    @GetMapping("/me/comments/export")
+    public ResponseEntity<StreamingResponseBody> exportMyComments(HttpSession session) {
+        String loginEmail = (String) session.getAttribute("loginEmail");
+        if (loginEmail == null) {
+            throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        }
+
+        StreamingResponseBody body = out -> commentExportService.exportByMemberEmail(loginEmail, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"comments.ndjson\"")
+                .body(body);
+    }
+
     /**
      * 마이페이지 (이메일 기반 조회)
      */
@@ -140,7 +140,7 @@ public class MemberPageController {
         }
 
         // 게시글 작성자 확인 (보안 강화)
-        PostResponseDTO post = postService.findById(postId);
+        PostResponseDTO post = postService.findById(postId, false);
         if (post == null) {
             log.warn("게시글 삭제 실패: 게시글을 찾을 수 없음 - postId={}", postId);
             return "redirect:/member/mypage";
@@ -1,7 +1,5 @@
 package kr.co.inhatc.inhatc;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -12,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import jakarta.servlet.http.HttpSession;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.dto.NotificationDTO;
 import kr.co.inhatc.inhatc.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -26,18 +25,22 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     /**
-     * 알림 확인 페이지 (HTML) - 읽지 않은 알림만
+     * 알림 확인 페이지 (HTML) - 읽지 않은 알림만 (커서 기반 페이징)
+     * GET /posts/check (첫 페이지), GET /posts/check?cursor={nextCursor} (다음 페이지)
      */
     @GetMapping("/check")
-    public String checkNotifications(HttpSession session, Model model) {
+    public String checkNotifications(@RequestParam(defaultValue = "") String cursor,
+                                     @RequestParam(defaultValue = "20") int size,
+                                     HttpSession session, Model model) {
         String loginEmail = (String) session.getAttribute("loginEmail");
         if (loginEmail == null) {
             return "redirect:/";
         }
 
         try {
-            List<NotificationDTO> notifications = notificationService.getUnreadNotifications(loginEmail);
-            model.addAttribute("notifications", notifications);
+            CursorPageDTO<NotificationDTO> page = notificationService.getUnreadNotificationsByCursor(loginEmail, cursor, size);
+            model.addAttribute("notifications", page.getContent());
+            model.addAttribute("nextCursor", page.getNextCursor());
             model.addAttribute("loginEmail", loginEmail);
         } catch (Exception e) {
             log.error("알림 조회 중 오류 발생: loginEmail={}", loginEmail, e);
@@ -60,35 +63,30 @@ public class NotificationController {
             return "redirect:/";
         }
 
-        try {
-            List<NotificationDTO> notifications = notificationService.getAllNotifications(loginEmail);
-            model.addAttribute("notifications", notifications);
-            model.addAttribute("loginEmail", loginEmail);
-        } catch (Exception e) {
-            log.error("알림 조회 중 오류 발생: loginEmail={}", loginEmail, e);
-            // 에러 발생 시 빈 리스트로 처리
-            model.addAttribute("notifications", java.util.Collections.emptyList());
-            model.addAttribute("loginEmail", loginEmail);
-            model.addAttribute("error", "알림을 불러오는 중 오류가 발생했습니다.");
-        }
+        // 알림 목록은 페이지에서 커서 API(/posts/notifications/all?cursor=)로 나누어 조회
+        model.addAttribute("loginEmail", loginEmail);
 
         return "notifications"; // notifications.html 템플릿 사용
     }
 
     /**
-     * 알림 조회 API (JSON) - 읽지 않은 알림만
+     * 알림 조회 API (JSON) - 읽지 않은 알림만 (커서 기반 페이징, 최신순)
+     * GET /posts/notifications?size=20 (첫 페이지)
+     * GET /posts/notifications?cursor={nextCursor}&size=20 (다음 페이지)
      */
     @GetMapping("/notifications")
     @ResponseBody
-    public ResponseEntity<List<NotificationDTO>> getNotifications(HttpSession session) {
+    public ResponseEntity<CursorPageDTO<NotificationDTO>> getNotifications(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
         String loginEmail = (String) session.getAttribute("loginEmail");
         if (loginEmail == null) {
             return ResponseEntity.status(401).build();
         }
 
         try {
-            List<NotificationDTO> notifications = notificationService.getUnreadNotifications(loginEmail);
-            return ResponseEntity.ok(notifications);
+            return ResponseEntity.ok(notificationService.getUnreadNotificationsByCursor(loginEmail, cursor, size));
         } catch (Exception e) {
             log.error("알림 조회 API 오류 발생: loginEmail={}", loginEmail, e);
             return ResponseEntity.status(500).build();
@@ -96,25 +94,43 @@ public class NotificationController {
     }
 
     /**
-     * 모든 알림 조회 API (JSON) - 읽음/안읽음 모두
+     * 알림 기록 조회 API (JSON) - 읽음/안읽음 모두 (커서 기반 페이징, 최신순)
+     * GET /posts/notifications/all?size=20 (첫 페이지)
+     * GET /posts/notifications/all?cursor={nextCursor}&size=20 (다음 페이지)
      */
     @GetMapping("/notifications/all")
     @ResponseBody
-    public ResponseEntity<List<NotificationDTO>> getAllNotifications(HttpSession session) {
+    public ResponseEntity<CursorPageDTO<NotificationDTO>> getAllNotifications(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
         String loginEmail = (String) session.getAttribute("loginEmail");
         if (loginEmail == null) {
             return ResponseEntity.status(401).build();
         }
 
         try {
-            List<NotificationDTO> notifications = notificationService.getAllNotifications(loginEmail);
-            return ResponseEntity.ok(notifications);
+            return ResponseEntity.ok(notificationService.getNotificationsByCursor(loginEmail, cursor, size));
         } catch (Exception e) {
             log.error("전체 알림 조회 API 오류 발생: loginEmail={}", loginEmail, e);
             return ResponseEntity.status(500).build();
         }
     }
 
+    /**
+     * 읽지 않은 알림 수 조회 API (JSON)
+     */
+    @GetMapping("/notifications/count")
+    @ResponseBody
+    public ResponseEntity<Long> getUnreadNotificationCount(HttpSession session) {
+        String loginEmail = (String) session.getAttribute("loginEmail");
+        if (loginEmail == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(notificationService.getUnreadCount(loginEmail));
+    }
+
     /**
      * 알림 읽음 처리 API
      */
@@ -140,18 +156,21 @@ public class NotificationController {
 
     /**
      * 모든 알림 읽음 처리 API
+     * POST /posts/notifications/read-all?upToId={마지막으로 받은 알림 ID} (생략 시 전체)
      */
     @PostMapping("/notifications/read-all")
     @ResponseBody
-    public ResponseEntity<String> markAllNotificationsAsRead(HttpSession session) {
+    public ResponseEntity<String> markAllNotificationsAsRead(
+            @RequestParam(required = false) Long upToId,
+            HttpSession session) {
         String loginEmail = (String) session.getAttribute("loginEmail");
         if (loginEmail == null) {
             return ResponseEntity.status(401).body("로그인이 필요합니다.");
         }
 
         try {
-            notificationService.markAllAsRead(loginEmail);
-            log.info("모든 알림 읽음 처리: loginEmail={}", loginEmail);
+            int updated = notificationService.markAllAsRead(loginEmail, upToId);
+            log.info("모든 알림 읽음 처리: loginEmail={}, upToId={}, updated={}", loginEmail, upToId, updated);
             return ResponseEntity.ok("모든 알림이 읽음 처리되었습니다.");
         } catch (Exception e) {
             log.error("모든 알림 읽음 처리 실패: loginEmail={}", loginEmail, e);
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.dto.PostResponseDTO;
 import kr.co.inhatc.inhatc.exception.CustomException;
 import kr.co.inhatc.inhatc.exception.ErrorCode;
@@ -61,13 +63,45 @@ public class PostController {
      */
     @GetMapping
     public ResponseEntity<Page<PostResponseDTO>> getAllPosts(
-            @PageableDefault(size = 20, sort = "createdDate", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdDate", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            HttpSession session) {
         Page<PostResponseDTO> posts = postService.findAll(pageable);
+        postService.markLikedByViewer(posts.getContent(), viewerMemberId(session));
         log.debug("전체 게시글 조회: {}개 (페이지: {}, 크기: {})", 
                 posts.getTotalElements(), posts.getNumber(), posts.getSize());
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 전체 게시글 조회 (커서 기반 페이징, COUNT 쿼리 없음)
+     * 사용 예시:
+     * - GET /api/posts?cursor=&size=20 (첫 페이지)
+     * - GET /api/posts?cursor={nextCursor}&size=20 (다음 페이지)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDTO<PostResponseDTO>> getAllPostsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        CursorPageDTO<PostResponseDTO> posts = postService.findAllByCursor(cursor, size);
+        postService.markLikedByViewer(posts.getContent(), viewerMemberId(session));
+        log.debug("전체 게시글 커서 조회: {}개 (다음 페이지: {})", posts.getContent().size(), posts.isHasNext());
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * 인기 게시글 조회 (조회/좋아요/댓글 기반 시간 감쇠 점수 순)
+     * - GET /api/posts/trending?size=20
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostResponseDTO>> getTrendingPosts(
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        List<PostResponseDTO> posts = postService.findTrending(size);
+        postService.markLikedByViewer(posts, viewerMemberId(session));
+        return ResponseEntity.ok(posts);
+    }
+
     /**
      * 삭제 여부 기준으로 게시글 조회
      */
@@ -78,8 +112,9 @@ public class PostController {
 
     // 개별 게시글 조회
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponseDTO> getPostById(@PathVariable Long id) {
+    public ResponseEntity<PostResponseDTO> getPostById(@PathVariable Long id, HttpSession session) {
         PostResponseDTO post = postService.findById(id);
+        postService.markLikedByViewer(List.of(post), viewerMemberId(session));
         return ResponseEntity.ok(post);
     }
 
@@ -107,17 +142,59 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 좋아요 등록 (멱등, 로그인 사용자 기준)
+     * - PUT /api/posts/{postId}/likes
+     */
+    @PutMapping("/{postId}/likes")
+    public ResponseEntity<Map<String, Object>> like(@PathVariable Long postId, HttpSession session) {
+        String email = loginEmail(session);
+        boolean changed = postService.like(postId, viewerMemberId(session), email);
+        return ResponseEntity.ok(likeResponse(postId, true, changed));
+    }
+
+    /**
+     * 좋아요 취소 (멱등, 로그인 사용자 기준)
+     * - DELETE /api/posts/{postId}/likes
+     */
+    @DeleteMapping("/{postId}/likes")
+    public ResponseEntity<Map<String, Object>> unlike(@PathVariable Long postId, HttpSession session) {
+        loginEmail(session);
+        boolean changed = postService.unlike(postId, viewerMemberId(session));
+        return ResponseEntity.ok(likeResponse(postId, false, changed));
+    }
+
     /**
      * 팔로잉 중인 사용자들의 게시글 조회
      */
     @GetMapping("/following")
     public ResponseEntity<List<PostResponseDTO>> getFollowingPosts(
-            @RequestParam @NotBlank(message = "이메일은 필수입니다.") String email) {
+            @RequestParam @NotBlank(message = "이메일은 필수입니다.") String email,
+            HttpSession session) {
         List<PostResponseDTO> posts = postService.findFollowingPosts(email);
+        postService.markLikedByViewer(posts, viewerMemberId(session));
         log.debug("팔로잉 게시글 조회: {}개 (사용자: {})", posts.size(), email);
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 팔로잉 중인 사용자들의 게시글 조회 (커서 기반 페이징)
+     * - GET /api/posts/following?email={email}&cursor=&size=20 (첫 페이지)
+     * - GET /api/posts/following?email={email}&cursor={nextCursor}&size=20 (다음 페이지)
+     */
+    @GetMapping(value = "/following", params = "cursor")
+    public ResponseEntity<CursorPageDTO<PostResponseDTO>> getFollowingPostsByCursor(
+            @RequestParam @NotBlank(message = "이메일은 필수입니다.") String email,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        CursorPageDTO<PostResponseDTO> posts = postService.findFollowingPostsByCursor(email, cursor, size);
+        postService.markLikedByViewer(posts.getContent(), viewerMemberId(session));
+        log.debug("팔로잉 게시글 커서 조회: {}개 (사용자: {}, 다음 페이지: {})",
+                posts.getContent().size(), email, posts.isHasNext());
+        return ResponseEntity.ok(posts);
+    }
+
     /**
      * 게시글 업로드
      */
@@ -154,4 +231,33 @@ public class PostController {
         }
     }
 
+    private Map<String, Object> likeResponse(Long postId, boolean liked, boolean changed) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("liked", liked);
+        response.put("changed", changed); // 이미 같은 상태였으면 false
+        response.put("postId", postId);
+        return response;
+    }
+
+    private String loginEmail(HttpSession session) {
+        String email = (String) session.getAttribute("loginEmail");
+        if (email == null) {
+            throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        }
+        return email;
+    }
+
+    /**
+     * 세션의 회원 ID 조회 (로그인 시 저장, 이전 세션은 한 번만 조회 후 저장)
+     * 로그인하지 않은 경우 null
+     */
+    private Long viewerMemberId(HttpSession session) {
+        Long memberId = (Long) session.getAttribute("loginMemberId");
+        String email = (String) session.getAttribute("loginEmail");
+        if (memberId == null && email != null) {
+            memberId = postService.findMemberIdByEmail(email);
+            session.setAttribute("loginMemberId", memberId);
+        }
+        return memberId;
+    }
 }
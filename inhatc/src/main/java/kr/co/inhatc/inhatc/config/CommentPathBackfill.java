@@ -0,0 +1,72 @@
+package kr.co.inhatc.inhatc.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.co.inhatc.inhatc.entity.CommentEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 경로(thread_path) / 깊이(depth) 백필
+ *
+ * thread_path 컬럼 추가 이전에 작성된 댓글의 경로를 채운다.
+ * - 최상위 댓글부터 시작하여, 부모 경로가 채워진 댓글을 batch 단위로 계속 채움
+ * - 경로가 모두 채워져 있으면 조회 한 번으로 종료
+ * - 최대 깊이를 넘는 댓글, 경로 세그먼트(10자리)보다 큰 ID의 댓글과 그 하위 답글은 경로 없이 남김
+ *   (하위 트리 조회 시 자신만 반환, 기동은 계속 진행)
+ * - 백필 도중 경로가 없는 댓글에 답글이 달리면 작성 시점에 조상 경로를 먼저 채움 (CommentService)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentPathBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int filled = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT c.id, p.thread_path AS parent_path FROM comments_entity c " +
+                    "LEFT JOIN comments_entity p ON p.id = c.parent_comment_id " +
+                    "WHERE c.thread_path IS NULL AND c.id <= ? " +
+                    "AND (c.parent_comment_id IS NULL OR (p.thread_path IS NOT NULL AND LENGTH(p.thread_path) <= ?)) " +
+                    "ORDER BY c.id LIMIT ?",
+                    CommentEntity.PATH_MAX_ID, CommentEntity.MAX_DEPTH * CommentEntity.PATH_SEGMENT_LENGTH, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                Long id = ((Number) row.get("id")).longValue();
+                String parentPath = (String) row.get("parent_path");
+                String path = (parentPath != null ? parentPath : "") + CommentEntity.pathSegment(id);
+                updates.add(new Object[] { path, path.length() / CommentEntity.PATH_SEGMENT_LENGTH - 1, id });
+            }
+            jdbcTemplate.batchUpdate("UPDATE comments_entity SET thread_path = ?, depth = ? WHERE id = ?", updates);
+            filled += updates.size();
+        }
+
+        if (filled > 0) {
+            log.info("댓글 경로 백필 완료: comments={}", filled);
+        }
+
+        Integer oversized = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments_entity WHERE thread_path IS NULL AND id > ?",
+                Integer.class, CommentEntity.PATH_MAX_ID);
+        if (oversized != null && oversized > 0) {
+            log.warn("경로 세그먼트보다 큰 ID의 댓글은 경로 없이 남김: comments={}", oversized);
+        }
+    }
+}
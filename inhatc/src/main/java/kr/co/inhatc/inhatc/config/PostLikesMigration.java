@@ -0,0 +1,120 @@
+package kr.co.inhatc.inhatc.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 테이블 정리 마이그레이션
+ *
+ * 1. 레거시 post_likes 테이블 통합
+ *    PostEntity.lovedBy(@ManyToMany)가 사용하던 post_likes 테이블의 행을 likes_entity로 옮긴 뒤 삭제한다.
+ *    - post_likes 테이블이 없으면 아무것도 하지 않음 (신규 DB, 이미 마이그레이션된 DB)
+ *    - 이미 likes_entity에 있는 (게시글, 회원) 조합은 건너뜀
+ * 2. 중복 좋아요 제거 및 uk_like_post_member 제약 생성
+ *    이전의 조회 후 등록 방식은 동시 요청 시 같은 (게시글, 회원) 행을 여러 개 만들 수 있었고,
+ *    중복 행이 있으면 ddl-auto=update가 유니크 제약을 만들지 못한 채 넘어간다.
+ *    - 조합마다 가장 작은 ID의 행만 남기고 삭제한 뒤 제약이 없으면 직접 생성
+ * 정리된 게시글의 love 값은 likes_entity 기준으로 다시 계산하고 미반영 샤드 카운터는 정리한다.
+ *
+ * DDL(DROP/ALTER)은 MySQL에서 암묵적으로 커밋되므로 트랜잭션으로 묶지 않고, 각 단계를 다시 실행해도 같은 결과가 되도록 작성
+ * (중간에 실패해도 다음 기동 시 남은 단계부터 이어서 진행)
+ * 마이그레이션이 끝난 DB에서는 app.migration.post-likes.enabled=false로 기동 시 조회를 생략할 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostLikesMigration implements ApplicationRunner {
+
+    private static final String UNIQUE_CONSTRAINT = "uk_like_post_member";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.migration.post-likes.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        migrateLegacyPostLikes();
+        removeDuplicateLikes();
+    }
+
+    private void migrateLegacyPostLikes() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables " +
+                "WHERE table_schema = SCHEMA() AND LOWER(table_name) = 'post_likes'", Integer.class);
+        if (tables == null || tables == 0) {
+            return;
+        }
+
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO likes_entity (post_id, member_id, liked_date) " +
+                "SELECT DISTINCT pl.post_id, m.id, NOW() FROM post_likes pl " +
+                "JOIN member_entity m ON m.member_email = pl.member_email " +
+                "JOIN post_entity p ON p.id = pl.post_id " +
+                "WHERE NOT EXISTS (SELECT 1 FROM likes_entity l WHERE l.post_id = pl.post_id AND l.member_id = m.id)");
+
+        // 옮겨진 게시글의 좋아요 수를 likes_entity 기준으로 재계산
+        List<Long> postIds = jdbcTemplate.queryForList("SELECT DISTINCT pl.post_id FROM post_likes pl", Long.class);
+        recount(postIds);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS post_likes");
+        log.info("post_likes 마이그레이션 완료: inserted={}, recountedPosts={}", inserted, postIds.size());
+    }
+
+    private void removeDuplicateLikes() {
+        List<Map<String, Object>> duplicates = jdbcTemplate.queryForList(
+                "SELECT post_id, member_id, MIN(id) AS keep_id FROM likes_entity " +
+                "GROUP BY post_id, member_id HAVING COUNT(*) > 1");
+
+        if (!duplicates.isEmpty()) {
+            List<Object[]> deletes = new ArrayList<>();
+            List<Long> postIds = new ArrayList<>();
+            for (Map<String, Object> row : duplicates) {
+                Long postId = ((Number) row.get("post_id")).longValue();
+                deletes.add(new Object[] { postId, row.get("member_id"), row.get("keep_id") });
+                postIds.add(postId);
+            }
+            jdbcTemplate.batchUpdate("DELETE FROM likes_entity WHERE post_id = ? AND member_id = ? AND id <> ?", deletes);
+            recount(postIds.stream().distinct().toList());
+            log.info("중복 좋아요 정리 완료: pairs={}, recountedPosts={}", duplicates.size(), postIds.size());
+        }
+
+        // 중복 때문에 ddl-auto가 제약을 만들지 못했다면 정리 후 직접 생성
+        Integer constraints = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.table_constraints " +
+                "WHERE table_schema = SCHEMA() AND LOWER(table_name) = 'likes_entity' " +
+                "AND LOWER(constraint_name) = ?", Integer.class, UNIQUE_CONSTRAINT);
+        if (constraints == null || constraints == 0) {
+            jdbcTemplate.execute("ALTER TABLE likes_entity ADD CONSTRAINT " + UNIQUE_CONSTRAINT +
+                    " UNIQUE (post_id, member_id)");
+            log.info("좋아요 유니크 제약 생성 완료: {}", UNIQUE_CONSTRAINT);
+        }
+    }
+
+    /**
+     * 게시글 좋아요 수를 likes_entity 기준으로 다시 계산하고 해당 게시글의 샤드 카운터 삭제
+     */
+    private void recount(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> ids = postIds.stream().map(id -> new Object[] { id }).toList();
+        jdbcTemplate.batchUpdate(
+                "UPDATE post_entity SET love = (SELECT COUNT(*) FROM likes_entity l WHERE l.post_id = post_entity.id) " +
+                "WHERE id = ?", ids);
+        jdbcTemplate.batchUpdate("DELETE FROM like_counter_shard_entity WHERE post_id = ?", ids);
+    }
+}
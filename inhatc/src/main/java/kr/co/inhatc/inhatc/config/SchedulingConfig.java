@@ -0,0 +1,13 @@
+package kr.co.inhatc.inhatc.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 타임라인 정리 등 주기적인 백그라운드 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -26,6 +26,25 @@ public final class AppConstants {
         public static final String MAX_FILE_SIZE_PROD_STR = "10MB";
     }
 
+    /**
+     * 페이징 관련 상수
+     */
+    public static final class Pagination {
+        private Pagination() {}
+
+        public static final int DEFAULT_PAGE_SIZE = 20;
+        public static final int MAX_PAGE_SIZE = 100;
+
+        // 댓글 스레드 조회 시 최상위 댓글마다 함께 내려주는 답글 수
+        public static final int DEFAULT_REPLY_PREVIEW_SIZE = 3;
+        public static final int MAX_REPLY_PREVIEW_SIZE = 20;
+
+        // 요청 크기를 1 ~ MAX_PAGE_SIZE 범위로 보정
+        public static int clampSize(int size) {
+            return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        }
+    }
+
     /**
      * 에러 메시지 상수
      */
@@ -0,0 +1,20 @@
+package kr.co.inhatc.inhatc.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 내보내기 행 (NDJSON 한 줄)
+ * JPQL 생성자 표현식으로 바로 생성하므로 엔티티를 영속성 컨텍스트에 올리지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class CommentExportDTO {
+    private Long id; // 댓글 ID
+    private Long postId; // 게시글 ID
+    private Long parentCommentId; // 부모 댓글 ID (대댓글인 경우)
+    private String comment; // 내용
+    private LocalDateTime createdDate; // 생성일
+}
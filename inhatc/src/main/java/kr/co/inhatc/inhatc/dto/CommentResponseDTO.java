@@ -3,6 +3,7 @@ package kr.co.inhatc.inhatc.dto;
 import java.time.LocalDateTime;
 
 import kr.co.inhatc.inhatc.entity.CommentEntity;
+import kr.co.inhatc.inhatc.repository.projection.CommentPageView;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,7 +21,10 @@ public class CommentResponseDTO {
     private String writerProfile; // 작성자 프로필 이미지 경로
     private LocalDateTime createdDate; // 생성일
     private Long parentCommentId; // 부모 댓글 ID (대댓글인 경우)
+    private int depth; // 깊이 (최상위 댓글 0)
     private java.util.List<CommentResponseDTO> replies; // 답글 목록
+    private long replyCount; // 직속 답글 수
+    private String repliesNextCursor; // 남은 답글 조회 커서 (스레드 조회 시, 미리보기 답글이 없으면 null)
 
     @Builder
     public CommentResponseDTO(Long id, Long post, String comment, String writer, String writerProfile,
@@ -43,21 +47,14 @@ public class CommentResponseDTO {
         this.comment = commentEntity.getComment();
         this.parentCommentId = commentEntity.getParentComment() != null ? commentEntity.getParentComment().getId() : null;
         this.replies = new java.util.ArrayList<>();
+        this.replyCount = commentEntity.getReplyCount();
+        this.depth = commentEntity.getDepth();
 
         if (commentEntity.getWriter() != null) {
             this.writer = commentEntity.getWriter().getMemberEmail();
             this.writerName = commentEntity.getWriter().getMemberName();
 
-            // 프로필 경로 설정: WebConfig의 /static/** 매핑 활용
-            // 저장 경로: C:\Users\jdajs\spring test\inhatc\src\main\resources\static\{email}\profile.png
-            // 접근 경로: /static/{email}/profile.png
-            String email = commentEntity.getWriter().getMemberEmail();
-            if (email != null && !email.isEmpty()) {
-                // WebConfig 매핑을 통해 /static/{email}/profile.png로 직접 접근
-                this.writerProfile = "/static/" + email + "/profile.png";
-            } else {
-                this.writerProfile = "/images/default-profile.png";
-            }
+            this.writerProfile = profilePath(commentEntity.getWriter().getMemberEmail());
         } else {
             // 작성자가 없는 경우
             this.writer = "unknown";
@@ -66,4 +63,34 @@ public class CommentResponseDTO {
 
         this.createdDate = commentEntity.getCreateDate();
     }
+
+    /**
+     * 댓글 페이지 프로젝션으로 생성 (엔티티 연관관계를 건드리지 않음)
+     */
+    public static CommentResponseDTO from(CommentPageView view) {
+        CommentResponseDTO dto = CommentResponseDTO.builder()
+                .id(view.getId())
+                .post(view.getPostId())
+                .comment(view.getComment())
+                .writer(view.getWriterEmail() != null ? view.getWriterEmail() : "unknown")
+                .writerName(view.getWriterName())
+                .writerProfile(profilePath(view.getWriterEmail()))
+                .createdDate(view.getCreateDate())
+                .parentCommentId(view.getParentCommentId())
+                .build();
+        dto.setReplyCount(view.getReplyCount() != null ? view.getReplyCount() : 0);
+        dto.setDepth(view.getDepth() != null ? view.getDepth() : 0);
+        return dto;
+    }
+
+    // 프로필 경로 설정: WebConfig의 /static/** 매핑 활용
+    // 저장 경로: C:\Users\jdajs\spring test\inhatc\src\main\resources\static\{email}\profile.png
+    // 접근 경로: /static/{email}/profile.png
+    public static String profilePath(String email) {
+        if (email != null && !email.isEmpty()) {
+            // WebConfig 매핑을 통해 /static/{email}/profile.png로 직접 접근
+            return "/static/" + email + "/profile.png";
+        }
+        return "/images/default-profile.png";
+    }
 }
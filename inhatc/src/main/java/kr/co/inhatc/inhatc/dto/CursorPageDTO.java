@@ -0,0 +1,35 @@
+package kr.co.inhatc.inhatc.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 커서 기반 페이징 응답
+ * 전체 개수(COUNT) 없이 다음 페이지 커서만 전달
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+
+    private List<T> content; // 현재 페이지 데이터
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private int size; // 요청한 페이지 크기
+
+    public static <T> CursorPageDTO<T> of(List<T> content, String nextCursor, int size) {
+        return CursorPageDTO.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .size(size)
+                .build();
+    }
+}
@@ -26,6 +26,13 @@ public class NotificationDTO {
     private String postContent; // 게시물 내용 (미리보기)
 
     public static NotificationDTO fromEntity(NotificationEntity notification) {
+        return fromEntity(notification, notification.getPost().getContent());
+    }
+
+    /**
+     * 게시물 내용을 이미 알고 있는 경우 (게시물 엔티티를 다시 읽지 않음)
+     */
+    public static NotificationDTO fromEntity(NotificationEntity notification, String postContent) {
         return NotificationDTO.builder()
                 .id(notification.getId())
                 .postId(notification.getPost().getId())
@@ -34,9 +41,9 @@ public class NotificationDTO {
                 .recipientEmail(notification.getRecipientEmail())
                 .isRead(notification.getIsRead())
                 .createdAt(notification.getCreatedAt())
-                .postContent(notification.getPost().getContent() != null && notification.getPost().getContent().length() > 50
-                        ? notification.getPost().getContent().substring(0, 50) + "..."
-                        : notification.getPost().getContent())
+                .postContent(postContent != null && postContent.length() > 50
+                        ? postContent.substring(0, 50) + "..."
+                        : postContent)
                 .build();
     }
 }
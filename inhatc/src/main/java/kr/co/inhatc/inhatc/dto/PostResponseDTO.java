@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import kr.co.inhatc.inhatc.entity.MemberEntity;
 import kr.co.inhatc.inhatc.entity.PostEntity;
+import kr.co.inhatc.inhatc.repository.projection.PostListView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,6 +32,9 @@ public class PostResponseDTO {
     private String writerEmail;
     private String profilePicturePath;
 
+    private long commentCount; // 댓글 수
+    private boolean likedByViewer; // 조회자의 좋아요 여부 (로그인하지 않은 경우 false)
+
     public PostResponseDTO(PostEntity post, MemberEntity member) {
         this.id = post.getId();
         this.content = post.getContent();
@@ -38,28 +42,53 @@ public class PostResponseDTO {
         this.love = post.getLove();
         this.createdDate = post.getCreatedDate();
         this.modifiedDate = post.getModifiedDate();
+        this.commentCount = post.getCommentCount();
+        this.imgsource = resolveImgsource(post.getImgsource(), post.getMemberEmail());
+        applyWriter(member);
+    }
 
-        // 게시글 이미지 (/posts/**로 접근)
-        if (post.getImgsource() != null && !post.getImgsource().isEmpty()) {
-            String imgsource = post.getImgsource();
-            // 이미 /posts/로 시작하는 경우 그대로 사용
-            if (imgsource.startsWith("/posts/")) {
-                this.imgsource = imgsource;
-            } else {
-                // DB에 저장된 경로가 상대 경로인 경우 처리
-                try {
-                    // 파일명 추출 (경로에서 마지막 부분)
-                    String filename = Paths.get(imgsource).getFileName().toString();
-                    String email = post.getMemberEmail();
-                    this.imgsource = "/posts/" + email + "/" + filename; // 게시물 이미지 URL
-                } catch (Exception e) {
-                    // 파싱 실패 시 원본 경로 사용 또는 기본값
-                    this.imgsource = imgsource.startsWith("/") ? imgsource : "/posts/" + imgsource;
-                }
-            }
+    public PostResponseDTO(PostListView view, MemberEntity member) {
+        this.id = view.getId();
+        this.content = view.getContent();
+        this.hits = view.getHits();
+        this.love = view.getLove();
+        this.createdDate = view.getCreatedDate();
+        this.modifiedDate = view.getModifiedDate();
+        this.commentCount = view.getCommentCount();
+        this.imgsource = resolveImgsource(view.getImgsource(), view.getMemberEmail());
+        applyWriter(member);
+    }
+
+    public static PostResponseDTO fromEntity(PostEntity post, MemberEntity member) {
+        return new PostResponseDTO(post, member);
+    }
+
+    public static PostResponseDTO fromView(PostListView view, MemberEntity member) {
+        return new PostResponseDTO(view, member);
+    }
+
+    // 게시글 이미지 (/posts/**로 접근)
+    private static String resolveImgsource(String imgsource, String memberEmail) {
+        if (imgsource == null || imgsource.isEmpty()) {
+            return null;
+        }
+        // 이미 /posts/로 시작하는 경우 그대로 사용
+        if (imgsource.startsWith("/posts/")) {
+            return imgsource;
         }
+        // DB에 저장된 경로가 상대 경로인 경우 처리
+        try {
+            // 파일명 추출 (경로에서 마지막 부분)
+            String filename = Paths.get(imgsource).getFileName().toString();
+            return "/posts/" + memberEmail + "/" + filename; // 게시물 이미지 URL
+        } catch (Exception e) {
+            // 파싱 실패 시 원본 경로 사용 또는 기본값
+            return imgsource.startsWith("/") ? imgsource : "/posts/" + imgsource;
+        }
+    }
 
-        // 작성자 프로필 이미지 (/static/{email}/profile.png로 접근 - WebConfig 매핑 활용)
+    // 작성자 프로필 이미지 (/static/{email}/profile.png로 접근 - WebConfig 매핑 활용)
+    private void applyWriter(MemberEntity member) {
         if (member != null) {
             this.writerName = member.getMemberName();
             this.writer = member.getMemberName(); // HTML 템플릿 호환성
@@ -83,8 +112,4 @@ public class PostResponseDTO {
         }
     }
 
-    public static PostResponseDTO fromEntity(PostEntity post, MemberEntity member) {
-        return new PostResponseDTO(post, member);
-    }
-
 }
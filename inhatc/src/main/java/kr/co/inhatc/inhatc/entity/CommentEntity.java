@@ -2,6 +2,7 @@ package kr.co.inhatc.inhatc.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -12,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,9 +30,21 @@ import lombok.Setter;
 @AllArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "comments_entity")
+@Table(name = "comments_entity",
+       indexes = {
+           @Index(name = "idx_comment_post_parent_created_id", columnList = "post_id, parent_comment_id, create_date, id"),
+           @Index(name = "idx_comment_parent_created_id", columnList = "parent_comment_id, create_date, id"),
+           @Index(name = "idx_comment_post_path", columnList = "post_id, thread_path"),
+           @Index(name = "idx_comment_member_id", columnList = "member_email, id")
+       })
 public class CommentEntity {
 
+    // 경로 세그먼트: 10자리 0 채움 ID + '/' (고정 길이라 문자열 정렬 = 전위 순회 순서)
+    public static final int PATH_SEGMENT_LENGTH = 11;
+    public static final long PATH_MAX_ID = 9_999_999_999L;
+    public static final int PATH_MAX_LENGTH = 700;
+    public static final int MAX_DEPTH = PATH_MAX_LENGTH / PATH_SEGMENT_LENGTH - 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -56,6 +70,19 @@ public class CommentEntity {
     @JoinColumn(name = "parent_comment_id")
     private CommentEntity parentComment;
 
+    /** 직속 답글 수 (답글 작성/삭제 시 원자적으로 증감, 주기적으로 보정) */
+    @ColumnDefault("0")
+    @Column(name = "reply_count", nullable = false)
+    private long replyCount;
+
+    /** 경로 (최상위 댓글부터 자신까지의 ID 세그먼트, 하위 트리는 이 값으로 시작하는 범위) */
+    @Column(name = "thread_path", length = PATH_MAX_LENGTH)
+    private String path;
+
+    /** 깊이 (최상위 댓글 0) */
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
     @Column(name = "create_date", updatable = false)
     @CreatedDate
     private LocalDateTime createDate;
@@ -70,6 +97,37 @@ public class CommentEntity {
         this.createDate = LocalDateTime.now();
     }
 
+    /**
+     * 작성자 엔티티를 조회하지 않고 이메일만으로 생성 (writer 연관은 member_email 컬럼으로 연결됨)
+     */
+    public static CommentEntity of(String comment, PostEntity post, String memberEmail, CommentEntity parentComment) {
+        CommentEntity entity = new CommentEntity();
+        entity.comment = comment;
+        entity.post = post;
+        entity.memberEmail = memberEmail;
+        entity.parentComment = parentComment;
+        entity.createDate = LocalDateTime.now();
+        return entity;
+    }
+
+    /**
+     * 경로 세그먼트 (ID가 10자리를 넘으면 정렬 순서가 깨지므로 거부)
+     */
+    public static String pathSegment(Long id) {
+        if (id == null || id < 0 || id > PATH_MAX_ID) {
+            throw new IllegalStateException("댓글 경로에 사용할 수 없는 ID입니다: " + id);
+        }
+        return String.format("%010d/", id);
+    }
+
+    /**
+     * 부모 경로 뒤에 자신의 ID를 이어 경로와 깊이 설정 (ID 생성 이후 호출, 최상위 댓글이면 parentPath는 null)
+     */
+    public void assignPath(String parentPath) {
+        this.path = (parentPath != null ? parentPath : "") + pathSegment(this.id);
+        this.depth = this.path.length() / PATH_SEGMENT_LENGTH - 1;
+    }
+
     public void update(String comment) {
         this.comment = comment;
     }
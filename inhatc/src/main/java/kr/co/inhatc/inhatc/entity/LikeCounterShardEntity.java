@@ -0,0 +1,46 @@
+package kr.co.inhatc.inhatc.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좋아요 수 분산 카운터 (sharded counter)
+ * 좋아요/취소 시 post_entity 행 대신 게시글별 여러 샤드 행 중 하나에 증감량을 누적하여 행 잠금 경합을 분산한다.
+ * 누적된 증감량은 주기적으로 post_entity.love에 합산(compaction)한 뒤 삭제한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "like_counter_shard_entity",
+       indexes = @Index(name = "idx_like_shard_post_shard", columnList = "post_id, shard"))
+public class LikeCounterShardEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    /** 샤드 번호 (0 ~ 샤드 수 - 1) */
+    @Column(nullable = false)
+    private int shard;
+
+    /** 아직 post_entity.love에 반영되지 않은 증감량 */
+    @Column(nullable = false)
+    private long delta;
+
+    public LikeCounterShardEntity(Long postId, int shard, long delta) {
+        this.postId = postId;
+        this.shard = shard;
+        this.delta = delta;
+    }
+}
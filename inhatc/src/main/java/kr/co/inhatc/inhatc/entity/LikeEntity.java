@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,7 +22,9 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "likes_entity")
+@Table(name = "likes_entity",
+       uniqueConstraints = @UniqueConstraint(name = "uk_like_post_member", columnNames = {"post_id", "member_id"}),
+       indexes = @Index(name = "idx_like_member_post", columnList = "member_id, post_id"))
 public class LikeEntity {
 
     @Id
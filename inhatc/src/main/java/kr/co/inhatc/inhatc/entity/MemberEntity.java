@@ -1,9 +1,9 @@
 package kr.co.inhatc.inhatc.entity;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,7 +11,6 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table; 
 import kr.co.inhatc.inhatc.dto.MemberDTO;
@@ -46,6 +45,11 @@ public class MemberEntity {
     @Column(name = "profile_picture_path")
     private String profilePicturePath;
 
+    /** 읽지 않은 알림 수: UPDATE 쿼리로만 증감 (회원 정보 저장 시 오래된 값으로 덮어쓰지 않도록 insert/update 제외) */
+    @ColumnDefault("0")
+    @Column(name = "unread_notification_count", nullable = false, insertable = false, updatable = false)
+    private long unreadNotificationCount;
+
     /** 게시글: 단방향, PostEntity에 memberEmail 기준으로 연결 */
     @OneToMany
     @JoinColumn(name = "member_email", referencedColumnName = "member_email", insertable = false, updatable = false)
@@ -56,9 +60,6 @@ public class MemberEntity {
     @JoinColumn(name = "writer", referencedColumnName = "member_email", insertable = false, updatable = false)
     private List<CommentEntity> comments = new ArrayList<>();
 
-    @ManyToMany(mappedBy = "lovedBy")
-    private Set<PostEntity> likedPosts = new HashSet<>();
-
     // DTO 변환 메서드
     public static MemberDTO toDTO(MemberEntity member) {
         // profilePicturePath 처리: 전체 경로인 경우 그대로 사용, URL 형식인 경우 그대로 사용
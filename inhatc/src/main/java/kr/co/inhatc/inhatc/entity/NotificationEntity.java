@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,7 +29,19 @@ import lombok.Setter;
 @AllArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "notifications_entity")
+@Table(name = "notifications_entity",
+       indexes = {
+           // 좋아요 알림 중복 확인 (post_id, actor_email, notification_type, is_read) 단일 인덱스 조회
+           @Index(name = "idx_notification_post_actor_type_read",
+                  columnList = "post_id, actor_email, notification_type, is_read"),
+           // 수신자별 읽지 않은 알림 조회 / 읽지 않은 알림 수 보정
+           @Index(name = "idx_notification_recipient_read", columnList = "recipient_email, is_read"),
+           // 수신자별 알림 기록 키셋 페이징 (created_at, id)
+           @Index(name = "idx_notification_recipient_created_id", columnList = "recipient_email, created_at, id"),
+           // 수신자별 읽지 않은 알림 키셋 페이징 (created_at, id)
+           @Index(name = "idx_notification_recipient_read_created_id",
+                  columnList = "recipient_email, is_read, created_at, id")
+       })
 public class NotificationEntity {
 
     @Id
@@ -2,25 +2,21 @@ package kr.co.inhatc.inhatc.entity;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,7 +29,11 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "post_entity")
+@Table(name = "post_entity",
+       indexes = {
+           @Index(name = "idx_post_delete_created_id", columnList = "delete_yn, created_date, id"),
+           @Index(name = "idx_post_member_delete_created_id", columnList = "member_email, delete_yn, created_date, id")
+       })
 @BatchSize(size = 20)  // N+1 문제 해결을 위한 배치 크기 설정
 public class PostEntity {
 
@@ -47,6 +47,11 @@ public class PostEntity {
     private String imgsource;
     private int love;
 
+    /** 댓글 수 (댓글 작성/삭제 시 원자적으로 증감, 주기적으로 보정) */
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
     @Column(name = "created_date")
     private LocalDateTime createdDate;
 
@@ -64,19 +69,12 @@ public class PostEntity {
     @Column(name = "member_email", nullable = false)
     private String memberEmail;
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
+    // 댓글 삭제는 CommentPurgeService가 배치 단위로 일괄 처리 (엔티티 단위 cascade 사용 안 함)
+    @OneToMany(mappedBy = "post", fetch = FetchType.LAZY)
     @OrderBy("id ASC")
     @BatchSize(size = 20)  // Comments를 배치로 로딩하여 N+1 문제 해결
     private List<CommentEntity> comments = new ArrayList<>();
 
-    @ManyToMany
-    @JoinTable(
-            name = "post_likes",
-            joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_email", referencedColumnName = "member_email")
-    )
-    private Set<MemberEntity> lovedBy = new HashSet<>();
-
     /** 비즈니스 로직 */
     public void updateContent(String content) {
         this.content = content;
@@ -0,0 +1,58 @@
+package kr.co.inhatc.inhatc.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 홈 타임라인 (fan-out-on-write)
+ * 게시글 작성 시 팔로워별로 게시글 ID만 미리 기록해 두고, 피드 조회 시 한 번의 범위 조회로 읽는다.
+ * 게시글 본문은 저장하지 않으며 정렬용 생성일시만 복사한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "timeline_entity",
+       uniqueConstraints = @UniqueConstraint(name = "uk_timeline_member_post", columnNames = {"member_email", "post_id"}),
+       indexes = {
+           @Index(name = "idx_timeline_member_created", columnList = "member_email, created_date, post_id"),
+           @Index(name = "idx_timeline_post", columnList = "post_id")
+       })
+public class TimelineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 타임라인 소유자 (피드를 보는 사용자) */
+    @Column(name = "member_email", nullable = false)
+    private String memberEmail;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    /** 게시글 작성자 (언팔로우 시 일괄 제거용) */
+    @Column(name = "author_email", nullable = false)
+    private String authorEmail;
+
+    /** 게시글 생성일시 (정렬 기준) */
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    public TimelineEntity(String memberEmail, Long postId, String authorEmail, LocalDateTime createdDate) {
+        this.memberEmail = memberEmail;
+        this.postId = postId;
+        this.authorEmail = authorEmail;
+        this.createdDate = createdDate;
+    }
+}
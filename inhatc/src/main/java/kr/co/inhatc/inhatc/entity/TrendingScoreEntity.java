@@ -0,0 +1,46 @@
+package kr.co.inhatc.inhatc.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 게시글 점수 체크포인트
+ * 메모리의 인기 게시글 점수를 주기적으로 저장해 두고, 재시작 시 복원한다.
+ * 점수는 저장 시점(checkpoint_date) 기준으로 감쇠가 적용된 값이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "trending_score_entity",
+       uniqueConstraints = @UniqueConstraint(name = "uk_trending_post", columnNames = "post_id"))
+public class TrendingScoreEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "checkpoint_date", nullable = false)
+    private LocalDateTime checkpointDate;
+
+    public TrendingScoreEntity(Long postId, double score, LocalDateTime checkpointDate) {
+        this.postId = postId;
+        this.score = score;
+        this.checkpointDate = checkpointDate;
+    }
+}
@@ -13,6 +13,13 @@ public enum ErrorCode {
      * 400 BAD_REQUEST: 잘못된 요청
      */
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    COMMENT_DEPTH_EXCEEDED(HttpStatus.BAD_REQUEST, "더 이상 답글을 작성할 수 없는 댓글입니다."),
+
+    /*
+     * 401 UNAUTHORIZED: 인증 필요
+     */
+    LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
 
     /*
      * 404 NOT_FOUND: 리소스를 찾을 수 없음
@@ -25,6 +32,11 @@ public enum ErrorCode {
      */
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "허용되지 않은 메서드입니다."),
 
+    /*
+     * 429 TOO_MANY_REQUESTS: 요청 한도 초과
+     */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     /*
      * 500 INTERNAL_SERVER_ERROR: 내부 서버 오류
      */
@@ -1,5 +1,6 @@
 package kr.co.inhatc.inhatc.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +29,18 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(e.getErrorCode()));
     }
 
+    /*
+     * HTTP 429 Exception (Retry-After 헤더로 재시도 가능 시점 안내)
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(final RateLimitExceededException e) {
+        log.warn("handleRateLimitExceededException: retryAfter={}s", e.getRetryAfterSeconds());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getErrorCode()));
+    }
+
     /*
      * HTTP 405 Exception
      */
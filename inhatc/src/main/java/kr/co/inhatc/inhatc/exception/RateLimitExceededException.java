@@ -0,0 +1,15 @@
+package kr.co.inhatc.inhatc.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    // 다시 요청할 수 있을 때까지 남은 시간 (초)
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
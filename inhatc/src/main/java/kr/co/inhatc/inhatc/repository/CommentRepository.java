@@ -1,15 +1,29 @@
 package kr.co.inhatc.inhatc.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+import kr.co.inhatc.inhatc.dto.CommentExportDTO;
 import kr.co.inhatc.inhatc.entity.CommentEntity;
+import kr.co.inhatc.inhatc.repository.projection.CommentNodeView;
+import kr.co.inhatc.inhatc.repository.projection.CommentPageView;
+import kr.co.inhatc.inhatc.repository.projection.CommentPathView;
+import kr.co.inhatc.inhatc.repository.projection.CommentWriteView;
+import kr.co.inhatc.inhatc.repository.projection.CountDriftView;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
@@ -21,6 +35,14 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
     List<CommentEntity> findByWriterMemberEmail(String email);
 
+    // ✅ 댓글 내보내기: 생성자 표현식 + 스트림 (idx_comment_member_id 사용)
+    // fetch size Integer.MIN_VALUE: MySQL Connector/J가 결과를 한 행씩 스트리밍 (이 쿼리에만 적용, 연결 풀 설정 변경 없음)
+    // 스트림을 닫기 전까지 같은 연결로 다른 쿼리를 실행할 수 없으므로 읽는 동안 추가 조회 없음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new kr.co.inhatc.inhatc.dto.CommentExportDTO(c.id, c.post.id, c.parentComment.id, c.comment, c.createDate) " +
+           "FROM CommentEntity c WHERE c.memberEmail = :memberEmail ORDER BY c.id")
+    Stream<CommentExportDTO> streamExportByMemberEmail(@Param("memberEmail") String memberEmail);
+
     // ✅ N+1 문제 해결: JOIN FETCH를 사용하여 Writer, Post, ParentComment를 한 번에 조회
     @Query("SELECT DISTINCT c FROM CommentEntity c " +
            "LEFT JOIN FETCH c.writer " +
@@ -30,8 +52,143 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
            "ORDER BY c.createDate ASC")
     List<CommentEntity> findByPostIdWithWriter(@Param("postId") Long postId);
 
-    // ✅ 페이징 지원: 특정 게시글의 댓글 조회 (페이징)
-    // @EntityGraph 제거: 페이징과 Collection fetch 충돌 방지
-    // @BatchSize로 N+1 문제 해결
-    Page<CommentEntity> findByPostIdOrderByCreateDateDesc(Long postId, Pageable pageable);
+    // ✅ 페이징 지원: 특정 게시글의 댓글 조회 (최신순, 스칼라 프로젝션)
+    // 게시글/부모 댓글은 FK 컬럼만 읽고 작성자는 LEFT JOIN으로 함께 조회하여 프록시 로딩 없이 SQL 1회
+    // 전체 댓글 수는 COUNT(*) OVER()로 같은 쿼리에서 계산 (별도 count 쿼리 없음)
+    @Query("SELECT c.id AS id, c.post.id AS postId, c.comment AS comment, " +
+           "w.memberEmail AS writerEmail, w.memberName AS writerName, c.createDate AS createDate, " +
+           "c.parentComment.id AS parentCommentId, c.replyCount AS replyCount, c.depth AS depth, " +
+           "COUNT(*) OVER () AS totalCount " +
+           "FROM CommentEntity c LEFT JOIN c.writer w " +
+           "WHERE c.post.id = :postId " +
+           "ORDER BY c.createDate DESC, c.id DESC")
+    List<CommentPageView> findPageByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // ✅ 게시글 댓글 수 (요청한 페이지가 비어 있어 전체 수를 알 수 없을 때만 사용)
+    long countByPostId(Long postId);
+
+    // ✅ 키셋 페이징: 최상위 댓글 첫 페이지 (최신순, idx_comment_post_parent_created_id 사용)
+    @Query("SELECT c FROM CommentEntity c LEFT JOIN FETCH c.writer " +
+           "WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+           "ORDER BY c.createDate DESC, c.id DESC")
+    List<CommentEntity> findRootsFirstPage(@Param("postId") Long postId, Pageable pageable);
+
+    // ✅ 키셋 페이징: 커서(createDate, id) 이후 최상위 댓글
+    @Query("SELECT c FROM CommentEntity c LEFT JOIN FETCH c.writer " +
+           "WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+           "AND (c.createDate < :createDate OR (c.createDate = :createDate AND c.id < :id)) " +
+           "ORDER BY c.createDate DESC, c.id DESC")
+    List<CommentEntity> findRootsAfter(@Param("postId") Long postId,
+                                       @Param("createDate") LocalDateTime createDate,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    // ✅ 키셋 페이징: 답글 첫 페이지 (작성순, idx_comment_parent_created_id 사용)
+    // 다른 게시글의 댓글 ID로 조회하면 빈 페이지 (답글의 게시글은 부모 댓글의 게시글과 같음)
+    @Query("SELECT c FROM CommentEntity c LEFT JOIN FETCH c.writer " +
+           "WHERE c.parentComment.id = :parentId AND c.post.id = :postId " +
+           "ORDER BY c.createDate ASC, c.id ASC")
+    List<CommentEntity> findRepliesFirstPage(@Param("postId") Long postId,
+                                             @Param("parentId") Long parentId,
+                                             Pageable pageable);
+
+    // ✅ 키셋 페이징: 커서(createDate, id) 이후 답글
+    @Query("SELECT c FROM CommentEntity c LEFT JOIN FETCH c.writer " +
+           "WHERE c.parentComment.id = :parentId AND c.post.id = :postId " +
+           "AND (c.createDate > :createDate OR (c.createDate = :createDate AND c.id > :id)) " +
+           "ORDER BY c.createDate ASC, c.id ASC")
+    List<CommentEntity> findRepliesAfter(@Param("postId") Long postId,
+                                         @Param("parentId") Long parentId,
+                                         @Param("createDate") LocalDateTime createDate,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // ✅ 댓글별 답글 미리보기 ID: 댓글마다 작성순 앞쪽 limit개 (윈도우 함수로 한 번에 조회)
+    @Query("SELECT r.id FROM (" +
+           "  SELECT c.id AS id, c.createDate AS createDate, " +
+           "         row_number() OVER (PARTITION BY c.parentComment.id ORDER BY c.createDate ASC, c.id ASC) AS rn " +
+           "  FROM CommentEntity c WHERE c.parentComment.id IN :parentIds" +
+           ") r WHERE r.rn <= :limit ORDER BY r.createDate ASC, r.id ASC")
+    List<Long> findReplyPreviewIds(@Param("parentIds") List<Long> parentIds, @Param("limit") long limit);
+
+    // 답글 미리보기 조회 (작성자 포함)
+    @Query("SELECT c FROM CommentEntity c LEFT JOIN FETCH c.writer " +
+           "WHERE c.id IN :ids ORDER BY c.createDate ASC, c.id ASC")
+    List<CommentEntity> findWithWriterByIdIn(@Param("ids") List<Long> ids);
+
+    // ✅ 하위 트리 조회: 경로 접두사 범위 스캔 (idx_comment_post_path), 경로순 = 전위 순회 순서
+    @Query("SELECT c FROM CommentEntity c LEFT JOIN FETCH c.writer " +
+           "WHERE c.post.id = :postId AND c.path LIKE :pathPrefix " +
+           "ORDER BY c.path")
+    List<CommentEntity> findByPathPrefix(@Param("postId") Long postId, @Param("pathPrefix") String pathPrefix);
+
+    // ✅ 댓글 하위 트리 (재귀 CTE): 기준 댓글과 모든 답글의 ID/깊이만 조회, 깊은 답글부터 정렬
+    @Query(value = "WITH RECURSIVE subtree (id, depth) AS (" +
+                   "  SELECT c.id, 0 FROM comments_entity c WHERE c.id = :rootId" +
+                   "  UNION ALL" +
+                   "  SELECT c.id, s.depth + 1 FROM comments_entity c JOIN subtree s ON c.parent_comment_id = s.id" +
+                   ") SELECT id, depth FROM subtree ORDER BY depth DESC, id",
+           nativeQuery = true)
+    List<CommentNodeView> findSubtreeNodes(@Param("rootId") Long rootId);
+
+    // ✅ 경로가 없는 조상 체인 (재귀 CTE): 기준 댓글부터 경로가 있는 조상(또는 최상위 댓글)까지, 위쪽부터 정렬
+    // 첫 행의 경로가 있으면 그 아래 행들의 경로를 이어 붙여 계산
+    @Query(value = "WITH RECURSIVE ancestors (id, parent_id, thread_path, lvl) AS (" +
+                   "  SELECT c.id, c.parent_comment_id, c.thread_path, 0 FROM comments_entity c WHERE c.id = :commentId" +
+                   "  UNION ALL" +
+                   "  SELECT p.id, p.parent_comment_id, p.thread_path, a.lvl + 1 FROM comments_entity p" +
+                   "  JOIN ancestors a ON p.id = a.parent_id WHERE a.thread_path IS NULL" +
+                   ") SELECT id, thread_path AS path FROM ancestors ORDER BY lvl DESC",
+           nativeQuery = true)
+    List<CommentPathView> findUnpathedAncestors(@Param("commentId") Long commentId);
+
+    // ✅ 경로가 없는 댓글에만 경로 설정 (경로는 ID로 결정되므로 백필과 동시에 실행되어도 같은 값)
+    @Modifying
+    @Query("UPDATE CommentEntity c SET c.path = :path, c.depth = :depth WHERE c.id = :id AND c.path IS NULL")
+    int assignPathIfAbsent(@Param("id") Long id, @Param("path") String path, @Param("depth") int depth);
+
+    // ✅ 댓글 작성 검증: 게시글, 작성자, 부모 댓글의 게시글 ID를 한 번에 조회
+    // 게시글이 없으면 결과 없음, 작성자/부모 댓글이 없으면 해당 컬럼이 null
+    @Query("SELECT p.id AS postId, p.memberEmail AS postOwnerEmail, p.content AS postContent, p.deleteYn AS postDeleteYn, " +
+           "m.memberEmail AS writerEmail, m.memberName AS writerName, " +
+           "pc.post.id AS parentPostId, pc.path AS parentPath " +
+           "FROM PostEntity p LEFT JOIN MemberEntity m ON m.memberEmail = :writerEmail " +
+           "LEFT JOIN CommentEntity pc ON pc.id = :parentId " +
+           "WHERE p.id = :postId")
+    Optional<CommentWriteView> findWriteContext(@Param("postId") Long postId,
+                                                @Param("writerEmail") String writerEmail,
+                                                @Param("parentId") Long parentId);
+
+    // ✅ 배치 삭제: DELETE ... WHERE id IN (...) 1회, 실제 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM CommentEntity c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    // ✅ 답글 수 증감: 답글 작성/삭제와 같은 트랜잭션에서 원자적으로 처리 (음수 방지)
+    @Modifying
+    @Query("UPDATE CommentEntity c SET c.replyCount = " +
+           "CASE WHEN c.replyCount + :delta < 0 THEN 0 ELSE c.replyCount + :delta END " +
+           "WHERE c.id = :commentId")
+    int addReplyCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    // ✅ 답글 수 보정 대상: ID 범위 내에서 저장된 답글 수와 실제 답글 수가 다른 댓글
+    // (MySQL은 UPDATE 대상 테이블을 서브쿼리에서 참조할 수 없어 조회 후 갱신)
+    @Query("SELECT c.id AS id, c.replyCount AS storedCount, COUNT(r) AS actualCount " +
+           "FROM CommentEntity c LEFT JOIN CommentEntity r ON r.parentComment.id = c.id " +
+           "WHERE c.id BETWEEN :fromId AND :toId " +
+           "GROUP BY c.id, c.replyCount HAVING COUNT(r) <> c.replyCount")
+    List<CountDriftView> findReplyCountDrift(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // ✅ 답글 수 보정: 조회 이후 값이 바뀌지 않은 경우에만 갱신 (동시 증감 보호)
+    @Transactional
+    @Modifying
+    @Query("UPDATE CommentEntity c SET c.replyCount = :actualCount " +
+           "WHERE c.id = :id AND c.replyCount = :storedCount")
+    int reconcileReplyCount(@Param("id") Long id,
+                            @Param("storedCount") long storedCount,
+                            @Param("actualCount") long actualCount);
+
+    // 보정 범위 계산용 최대 ID
+    @Query("SELECT MAX(c.id) FROM CommentEntity c")
+    Long findMaxId();
 }
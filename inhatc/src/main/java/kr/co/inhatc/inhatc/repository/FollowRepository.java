@@ -1,5 +1,6 @@
 package kr.co.inhatc.inhatc.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,21 @@ public interface FollowRepository extends JpaRepository<FollowEntity, Long> {
     @Query("SELECT COUNT(f) FROM FollowEntity f WHERE f.follower = :member")
     Long countFollowingByFollower(@Param("member") MemberEntity member);
 
+    // 팔로잉 중인 사용자 이메일 목록
+    @Query("SELECT f.following.memberEmail FROM FollowEntity f WHERE f.follower.memberEmail = :memberEmail")
+    List<String> findFollowingEmails(@Param("memberEmail") String memberEmail);
+
+    // 팔로워 수가 기준을 초과하는 사용자 (fan-out 제외 대상, 주기적으로만 집계)
+    @Query("SELECT f.following.memberEmail FROM FollowEntity f " +
+           "GROUP BY f.following.memberEmail HAVING COUNT(f) > :threshold")
+    List<String> findEmailsWithFollowersOver(@Param("threshold") long threshold);
+
+    // 팔로잉 중인 사용자 중 주어진 사용자만 조회
+    @Query("SELECT f.following.memberEmail FROM FollowEntity f " +
+           "WHERE f.follower.memberEmail = :memberEmail AND f.following.memberEmail IN :authorEmails")
+    List<String> findFollowingEmailsIn(@Param("memberEmail") String memberEmail,
+                                       @Param("authorEmails") Collection<String> authorEmails);
+
     // 팔로우 여부 확인
     boolean existsByFollowerAndFollowing(MemberEntity follower, MemberEntity following);
 }
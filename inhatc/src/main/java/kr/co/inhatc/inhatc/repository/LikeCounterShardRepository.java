@@ -0,0 +1,40 @@
+package kr.co.inhatc.inhatc.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import kr.co.inhatc.inhatc.entity.LikeCounterShardEntity;
+import kr.co.inhatc.inhatc.repository.projection.PostDeltaView;
+
+@Repository
+public interface LikeCounterShardRepository extends JpaRepository<LikeCounterShardEntity, Long> {
+
+    // ✅ 샤드 행 원자적 증감: 게시글 행이 아닌 샤드 행만 잠금 (0이면 샤드 행이 아직 없음)
+    @Modifying
+    @Query("UPDATE LikeCounterShardEntity s SET s.delta = s.delta + :delta " +
+           "WHERE s.postId = :postId AND s.shard = :shard")
+    int addDelta(@Param("postId") Long postId, @Param("shard") int shard, @Param("delta") long delta);
+
+    // ✅ 게시글별 미반영 증감량 합계 (목록 조회 시 한 번의 쿼리로 조회)
+    @Query("SELECT s.postId AS postId, SUM(s.delta) AS delta FROM LikeCounterShardEntity s " +
+           "WHERE s.postId IN :postIds GROUP BY s.postId")
+    List<PostDeltaView> sumDeltaByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 합산 대상 게시글 ID 목록
+    @Query("SELECT DISTINCT s.postId FROM LikeCounterShardEntity s")
+    List<Long> findPostIdsWithDelta(Pageable pageable);
+
+    // ✅ 합산 대상 샤드 행 잠금 조회 (합산 도중 들어온 증감량이 삭제되지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LikeCounterShardEntity s WHERE s.postId IN :postIds")
+    List<LikeCounterShardEntity> findByPostIdInForUpdate(@Param("postIds") Collection<Long> postIds);
+}
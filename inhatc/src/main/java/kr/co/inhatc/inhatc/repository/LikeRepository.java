@@ -1,22 +1,35 @@
 package kr.co.inhatc.inhatc.repository;
 
 import kr.co.inhatc.inhatc.entity.LikeEntity;
-import kr.co.inhatc.inhatc.entity.MemberEntity;
-import kr.co.inhatc.inhatc.entity.PostEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<LikeEntity, Long> {
-    // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
-    Optional<LikeEntity> findByPostAndUser(PostEntity post, MemberEntity user);
+    // ✅ 조회자가 좋아요한 게시글 ID만 조회 (피드 페이지당 1회, idx_like_member_post 인덱스 사용)
+    @Query("SELECT l.post.id FROM LikeEntity l WHERE l.user.id = :memberId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
 
-    // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
-    List<LikeEntity> findByPost(PostEntity post);
+    // ✅ 좋아요 등록 (insert-ignore): 이미 있거나 게시글(삭제 포함)/회원이 없으면 0, 새로 등록하면 1
+    // 동시 요청으로 NOT EXISTS를 함께 통과한 경우 uk_like_post_member 제약이 중복을 막음
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO LikeEntity (post, user, likedDate) " +
+           "SELECT p, m, :likedDate FROM PostEntity p, MemberEntity m " +
+           "WHERE p.id = :postId AND p.deleteYn = 'N' AND m.id = :memberId " +
+           "AND NOT EXISTS (SELECT l.id FROM LikeEntity l WHERE l.post.id = :postId AND l.user.id = :memberId)")
+    int insertIfAbsent(@Param("postId") Long postId,
+                       @Param("memberId") Long memberId,
+                       @Param("likedDate") LocalDateTime likedDate);
 
-    // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
-    List<LikeEntity> findByPostIn(List<PostEntity> posts);
-
-    
+    // ✅ 좋아요 취소: 삭제된 행 수 반환 (없으면 0)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LikeEntity l WHERE l.post.id = :postId AND l.user.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 }
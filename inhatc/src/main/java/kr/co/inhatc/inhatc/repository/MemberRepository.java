@@ -4,7 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; // Repository 어노테이션을 임포트해야 합니다.
+import org.springframework.transaction.annotation.Transactional;
 
 import kr.co.inhatc.inhatc.entity.MemberEntity; // MemberEntity 클래스를 임포트해야 합니다.
 
@@ -20,4 +24,29 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     // ✅ N+1 문제 해결: 여러 이메일의 회원을 한 번에 조회
     List<MemberEntity> findByMemberEmailIn(List<String> memberEmails);
 
+    // ✅ 읽지 않은 알림 수 조회 (컬럼 하나만 조회)
+    @Query("SELECT m.unreadNotificationCount FROM MemberEntity m WHERE m.memberEmail = :memberEmail")
+    Optional<Long> findUnreadNotificationCount(@Param("memberEmail") String memberEmail);
+
+    // ✅ 읽지 않은 알림 수 증감: 알림 생성/읽음 처리와 같은 트랜잭션에서 원자적으로 처리 (음수 방지)
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.unreadNotificationCount = " +
+           "CASE WHEN m.unreadNotificationCount + :delta < 0 THEN 0 ELSE m.unreadNotificationCount + :delta END " +
+           "WHERE m.memberEmail = :memberEmail")
+    int addUnreadNotificationCount(@Param("memberEmail") String memberEmail, @Param("delta") long delta);
+
+    // ✅ 읽지 않은 알림 수 보정: ID 범위 내에서 실제 값과 다른 회원만 한 번의 UPDATE로 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.unreadNotificationCount = " +
+           "(SELECT COUNT(n) FROM NotificationEntity n WHERE n.recipientEmail = m.memberEmail AND n.isRead = false) " +
+           "WHERE m.id BETWEEN :fromId AND :toId " +
+           "AND m.unreadNotificationCount <> " +
+           "(SELECT COUNT(n) FROM NotificationEntity n WHERE n.recipientEmail = m.memberEmail AND n.isRead = false)")
+    int reconcileUnreadNotificationCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 보정 범위 계산용 최대 ID
+    @Query("SELECT MAX(m.id) FROM MemberEntity m")
+    Long findMaxId();
+
 }
@@ -1,8 +1,14 @@
 package kr.co.inhatc.inhatc.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import kr.co.inhatc.inhatc.entity.NotificationEntity;
@@ -10,16 +16,57 @@ import kr.co.inhatc.inhatc.entity.NotificationEntity;
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
     
-    // 특정 사용자의 읽지 않은 알림 조회 (최신순)
-    // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
-    List<NotificationEntity> findByRecipientEmailAndIsReadFalseOrderByCreatedAtDesc(String recipientEmail);
-    
-    // 특정 사용자의 모든 알림 조회 (최신순)
-    // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
-    List<NotificationEntity> findByRecipientEmailOrderByCreatedAtDesc(String recipientEmail);
-    
-    // 특정 게시물의 알림 조회
-    // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
-    List<NotificationEntity> findByPostId(Long postId);
+    // ✅ 키셋 페이징: 알림 기록 첫 페이지 (최신순, idx_notification_recipient_created_id 사용)
+    @Query("SELECT n FROM NotificationEntity n JOIN FETCH n.post " +
+           "WHERE n.recipientEmail = :recipientEmail " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationEntity> findHistoryFirstPage(@Param("recipientEmail") String recipientEmail, Pageable pageable);
+
+    // ✅ 키셋 페이징: 커서(createdAt, id) 이후 알림 기록
+    @Query("SELECT n FROM NotificationEntity n JOIN FETCH n.post " +
+           "WHERE n.recipientEmail = :recipientEmail " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationEntity> findHistoryAfter(@Param("recipientEmail") String recipientEmail,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // ✅ 키셋 페이징: 읽지 않은 알림 첫 페이지 (최신순, idx_notification_recipient_read_created_id 사용)
+    @Query("SELECT n FROM NotificationEntity n JOIN FETCH n.post " +
+           "WHERE n.recipientEmail = :recipientEmail AND n.isRead = false " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationEntity> findUnreadFirstPage(@Param("recipientEmail") String recipientEmail, Pageable pageable);
+
+    // ✅ 키셋 페이징: 커서(createdAt, id) 이후 읽지 않은 알림
+    @Query("SELECT n FROM NotificationEntity n JOIN FETCH n.post " +
+           "WHERE n.recipientEmail = :recipientEmail AND n.isRead = false " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationEntity> findUnreadAfter(@Param("recipientEmail") String recipientEmail,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    // 같은 사용자가 같은 게시물에 남긴 읽지 않은 알림 존재 여부 (중복 알림 방지)
+    // ✅ idx_notification_post_actor_type_read 인덱스 조회 1회 (알림 행을 로딩하지 않음)
+    boolean existsByPostIdAndActorEmailAndNotificationTypeAndIsReadFalse(Long postId, String actorEmail, String notificationType);
+
+    // 알림 수신자 이메일만 조회 (읽음 처리 후 알림 수 전송용)
+    @Query("SELECT n.recipientEmail FROM NotificationEntity n WHERE n.id = :id")
+    Optional<String> findRecipientEmailById(@Param("id") Long id);
+
+    // ✅ 단건 읽음 처리: 읽지 않은 알림일 때만 변경 (동시 요청 중 한 번만 1을 반환)
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsRead(@Param("id") Long id);
+
+    // ✅ 일괄 읽음 처리: 엔티티를 로딩하지 않고 UPDATE 1회 (idx_notification_recipient_read 사용)
+    // upToId가 있으면 해당 ID 이하의 알림만 처리 (클라이언트가 본 이후 도착한 알림은 읽지 않은 상태로 유지)
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.isRead = true " +
+           "WHERE n.recipientEmail = :recipientEmail AND n.isRead = false " +
+           "AND (:upToId IS NULL OR n.id <= :upToId)")
+    int markAllAsRead(@Param("recipientEmail") String recipientEmail, @Param("upToId") Long upToId);
 }
 
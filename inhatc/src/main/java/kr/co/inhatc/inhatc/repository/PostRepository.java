@@ -1,24 +1,38 @@
 package kr.co.inhatc.inhatc.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import kr.co.inhatc.inhatc.entity.PostEntity;
+import kr.co.inhatc.inhatc.repository.projection.PostKeyView;
+import kr.co.inhatc.inhatc.repository.projection.PostListView;
 
 @Repository
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
+    // 목록 프로젝션 공통 컬럼 (댓글 수는 비정규화된 comment_count 컬럼 사용)
+    String LIST_VIEW_COLUMNS =
+            "p.id AS id, p.content AS content, p.hits AS hits, p.love AS love, " +
+            "p.imgsource AS imgsource, p.createdDate AS createdDate, p.modifiedDate AS modifiedDate, " +
+            "p.memberEmail AS memberEmail, p.deleteYn AS deleteYn, p.commentCount AS commentCount";
+
     // 삭제되지 않은 게시글 조회
     // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
     List<PostEntity> findByDeleteYnOrderByCreatedDateDesc(char deleteYn);
 
+    // 삭제되지 않은 게시글 존재 여부
+    boolean existsByIdAndDeleteYn(Long id, char deleteYn);
+
     // 회원 이메일 기준 조회
     // ✅ 안전: JPA 메서드 이름 기반 쿼리 (SQL Injection 위험 없음)
     List<PostEntity> findByMemberEmailOrderByIdDesc(String memberEmail);
@@ -29,27 +43,29 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     @Query("SELECT p FROM PostEntity p WHERE p.memberEmail IN :emails ORDER BY p.id DESC")
     List<PostEntity> findByMemberEmails(@Param("emails") List<String> emails);
 
-    // ✅ N+1 문제 해결: JOIN FETCH를 사용하여 Comments를 한 번에 조회
-    // 주의: Member는 memberEmail로만 연결되어 있어 JOIN FETCH 불가, Service에서 별도 조회 필요
-    @Query("SELECT DISTINCT p FROM PostEntity p " +
-           "LEFT JOIN FETCH p.comments " +
+    // ✅ 목록 조회: 댓글을 JOIN FETCH하지 않고 게시글 컬럼 + 댓글 수만 프로젝션으로 조회
+    // 주의: Member는 memberEmail로만 연결되어 있어 Service에서 별도 일괄 조회
+    @Query("SELECT " + LIST_VIEW_COLUMNS + " FROM PostEntity p " +
            "WHERE p.deleteYn = :deleteYn " +
            "ORDER BY p.createdDate DESC")
-    List<PostEntity> findAllWithCommentsByDeleteYn(@Param("deleteYn") char deleteYn);
+    List<PostListView> findListViewsByDeleteYn(@Param("deleteYn") char deleteYn);
 
-    // ✅ N+1 문제 해결: 특정 이메일의 게시글을 Comments와 함께 조회
-    @Query("SELECT DISTINCT p FROM PostEntity p " +
-           "LEFT JOIN FETCH p.comments " +
+    // ✅ 특정 이메일의 게시글 목록 (댓글 수 포함)
+    @Query("SELECT " + LIST_VIEW_COLUMNS + " FROM PostEntity p " +
            "WHERE p.memberEmail = :memberEmail " +
            "ORDER BY p.id DESC")
-    List<PostEntity> findByMemberEmailWithComments(@Param("memberEmail") String memberEmail);
+    List<PostListView> findListViewsByMemberEmail(@Param("memberEmail") String memberEmail);
 
-    // ✅ N+1 문제 해결: 여러 이메일의 게시글을 Comments와 함께 조회
-    @Query("SELECT DISTINCT p FROM PostEntity p " +
-           "LEFT JOIN FETCH p.comments " +
+    // ✅ 여러 이메일의 게시글 목록 (댓글 수 포함)
+    @Query("SELECT " + LIST_VIEW_COLUMNS + " FROM PostEntity p " +
            "WHERE p.memberEmail IN :emails " +
            "ORDER BY p.id DESC")
-    List<PostEntity> findByMemberEmailsWithComments(@Param("emails") List<String> emails);
+    List<PostListView> findListViewsByMemberEmails(@Param("emails") List<String> emails);
+
+    // ✅ 게시글 ID 목록으로 목록 조회 (타임라인/팔로잉 피드용, 삭제된 게시글 제외)
+    @Query("SELECT " + LIST_VIEW_COLUMNS + " FROM PostEntity p " +
+           "WHERE p.id IN :ids AND p.deleteYn = 'N'")
+    List<PostListView> findListViewsByIds(@Param("ids") List<Long> ids);
 
     // ✅ 페이징 지원: 삭제되지 않은 게시글 조회 (페이징)
     // @EntityGraph 제거: 페이징과 Collection fetch 충돌 방지
@@ -61,4 +77,76 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
     // @BatchSize로 N+1 문제 해결
     Page<PostEntity> findByMemberEmailOrderByIdDesc(String memberEmail, Pageable pageable);
 
+    // ✅ 작성자별 최신 게시글 정렬 키 (ID + 생성일시만 조회)
+    @Query("SELECT p.id AS id, p.createdDate AS createdDate FROM PostEntity p " +
+           "WHERE p.memberEmail IN :emails AND p.deleteYn = 'N' " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostKeyView> findRecentKeysByMemberEmails(@Param("emails") List<String> emails, Pageable pageable);
+
+    // ✅ 작성자 1명의 최신 게시글 정렬 키 (idx_post_member_delete_created_id 인덱스만으로 처리)
+    @Query("SELECT p.id AS id, p.createdDate AS createdDate FROM PostEntity p " +
+           "WHERE p.memberEmail = :email AND p.deleteYn = 'N' " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostKeyView> findRecentKeysByMemberEmail(@Param("email") String email, Pageable pageable);
+
+    // ✅ 작성자 1명의 커서(createdDate, id) 이전 게시글 정렬 키
+    @Query("SELECT p.id AS id, p.createdDate AS createdDate FROM PostEntity p " +
+           "WHERE p.memberEmail = :email AND p.deleteYn = 'N' " +
+           "AND (p.createdDate < :createdDate " +
+           "     OR (p.createdDate = :createdDate AND p.id < :id)) " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostKeyView> findKeysByMemberEmailBefore(@Param("email") String email,
+                                                  @Param("createdDate") LocalDateTime createdDate,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // ✅ 키셋 페이징: 첫 페이지 (COUNT 쿼리 없음, idx_post_delete_created_id 사용)
+    @Query("SELECT " + LIST_VIEW_COLUMNS + " FROM PostEntity p " +
+           "WHERE p.deleteYn = :deleteYn " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostListView> findFeedFirstPage(@Param("deleteYn") char deleteYn, Pageable pageable);
+
+    // ✅ 키셋 페이징: 커서(createdDate, id) 이후 페이지
+    @Query("SELECT " + LIST_VIEW_COLUMNS + " FROM PostEntity p " +
+           "WHERE p.deleteYn = :deleteYn " +
+           "AND (p.createdDate < :createdDate " +
+           "     OR (p.createdDate = :createdDate AND p.id < :id)) " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostListView> findFeedPageAfter(@Param("deleteYn") char deleteYn,
+                                       @Param("createdDate") LocalDateTime createdDate,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    // ✅ 조회수 일괄 반영: 같은 증가량을 가진 게시글들을 한 번의 UPDATE로 처리 (write-behind flush)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.hits = p.hits + :delta WHERE p.id IN :ids")
+    int addHits(@Param("ids") List<Long> ids, @Param("delta") int delta);
+
+    // ✅ 좋아요 수 일괄 반영: 샤드 카운터 합산 결과를 한 번의 UPDATE로 처리 (음수 방지)
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.love = " +
+           "CASE WHEN p.love + :delta < 0 THEN 0 ELSE p.love + :delta END " +
+           "WHERE p.id IN :ids")
+    int addLove(@Param("ids") List<Long> ids, @Param("delta") int delta);
+
+    // ✅ 댓글 수 증감: 댓글 작성/삭제와 같은 트랜잭션에서 원자적으로 처리 (음수 방지)
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentCount = " +
+           "CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END " +
+           "WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // ✅ 댓글 수 보정: ID 범위 내에서 실제 댓글 수와 다른 게시글만 한 번의 UPDATE로 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentCount = " +
+           "(SELECT COUNT(c) FROM CommentEntity c WHERE c.post.id = p.id) " +
+           "WHERE p.id BETWEEN :fromId AND :toId " +
+           "AND p.commentCount <> (SELECT COUNT(c) FROM CommentEntity c WHERE c.post.id = p.id)")
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 보정 범위 계산용 최대 ID
+    @Query("SELECT MAX(p.id) FROM PostEntity p")
+    Long findMaxId();
 }
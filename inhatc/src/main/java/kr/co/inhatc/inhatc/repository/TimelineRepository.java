@@ -0,0 +1,84 @@
+package kr.co.inhatc.inhatc.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import kr.co.inhatc.inhatc.entity.TimelineEntity;
+import kr.co.inhatc.inhatc.repository.projection.PostKeyView;
+
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntity, Long> {
+
+    // 타임라인 존재 여부 (최초 조회 시 재구성 판단용)
+    boolean existsByMemberEmail(String memberEmail);
+
+    // ✅ 타임라인 슬라이스 조회: idx_timeline_member_created 범위 스캔
+    @Query("SELECT t.postId AS id, t.createdDate AS createdDate FROM TimelineEntity t " +
+           "WHERE t.memberEmail = :memberEmail " +
+           "ORDER BY t.createdDate DESC, t.postId DESC")
+    List<PostKeyView> findSlice(@Param("memberEmail") String memberEmail, Pageable pageable);
+
+    // ✅ fan-out: 작성자의 모든 팔로워 타임라인에 한 번의 INSERT ... SELECT로 기록
+    @Modifying
+    @Query("INSERT INTO TimelineEntity (memberEmail, postId, authorEmail, createdDate) " +
+           "SELECT f.follower.memberEmail, :postId, :authorEmail, :createdDate " +
+           "FROM FollowEntity f WHERE f.following.memberEmail = :authorEmail")
+    int fanOutToFollowers(@Param("postId") Long postId,
+                          @Param("authorEmail") String authorEmail,
+                          @Param("createdDate") LocalDateTime createdDate);
+
+    // ✅ 백필: 특정 작성자의 cutoff 이후 게시글을 한 사용자 타임라인에 기록 (중복 제외)
+    @Modifying
+    @Query("INSERT INTO TimelineEntity (memberEmail, postId, authorEmail, createdDate) " +
+           "SELECT :memberEmail, p.id, p.memberEmail, p.createdDate FROM PostEntity p " +
+           "WHERE p.memberEmail IN :authorEmails AND p.deleteYn = 'N' AND p.createdDate >= :cutoff " +
+           "AND NOT EXISTS (SELECT t.id FROM TimelineEntity t " +
+           "                WHERE t.memberEmail = :memberEmail AND t.postId = p.id)")
+    int backfill(@Param("memberEmail") String memberEmail,
+                 @Param("authorEmails") List<String> authorEmails,
+                 @Param("cutoff") LocalDateTime cutoff);
+
+    // ✅ 병합 대상에서 빠진 작성자: [cutoff, until) 게시글을 모든 팔로워 타임라인에 기록 (중복 제외)
+    @Modifying
+    @Query("INSERT INTO TimelineEntity (memberEmail, postId, authorEmail, createdDate) " +
+           "SELECT fr.memberEmail, p.id, p.memberEmail, p.createdDate " +
+           "FROM FollowEntity f JOIN f.follower fr JOIN f.following fg " +
+           "JOIN PostEntity p ON p.memberEmail = fg.memberEmail " +
+           "WHERE fg.memberEmail = :authorEmail AND p.deleteYn = 'N' " +
+           "AND p.createdDate >= :cutoff AND p.createdDate < :until " +
+           "AND NOT EXISTS (SELECT t.id FROM TimelineEntity t " +
+           "                WHERE t.memberEmail = fr.memberEmail AND t.postId = p.id)")
+    int backfillFollowers(@Param("authorEmail") String authorEmail,
+                          @Param("cutoff") LocalDateTime cutoff,
+                          @Param("until") LocalDateTime until);
+
+    // 게시글 삭제 시 모든 타임라인에서 제거
+    @Modifying
+    @Query("DELETE FROM TimelineEntity t WHERE t.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 언팔로우 시 해당 작성자의 게시글을 타임라인에서 제거
+    @Modifying
+    @Query("DELETE FROM TimelineEntity t WHERE t.memberEmail = :memberEmail AND t.authorEmail = :authorEmail")
+    int deleteByMemberEmailAndAuthorEmail(@Param("memberEmail") String memberEmail,
+                                          @Param("authorEmail") String authorEmail);
+
+    // 최대 크기를 초과한 타임라인 소유자 목록
+    @Query("SELECT t.memberEmail FROM TimelineEntity t GROUP BY t.memberEmail HAVING COUNT(t) > :maxSize")
+    List<String> findOverflowingMembers(@Param("maxSize") long maxSize);
+
+    // 최대 크기 경계 이후(더 오래된) 항목 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TimelineEntity t WHERE t.memberEmail = :memberEmail " +
+           "AND (t.createdDate < :createdDate OR (t.createdDate = :createdDate AND t.postId <= :postId))")
+    int deleteOlderThan(@Param("memberEmail") String memberEmail,
+                        @Param("createdDate") LocalDateTime createdDate,
+                        @Param("postId") Long postId);
+}
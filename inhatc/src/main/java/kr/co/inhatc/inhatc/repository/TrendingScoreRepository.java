@@ -0,0 +1,10 @@
+package kr.co.inhatc.inhatc.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import kr.co.inhatc.inhatc.entity.TrendingScoreEntity;
+
+@Repository
+public interface TrendingScoreRepository extends JpaRepository<TrendingScoreEntity, Long> {
+}
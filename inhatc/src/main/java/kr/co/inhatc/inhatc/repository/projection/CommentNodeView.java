@@ -0,0 +1,11 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+/**
+ * 댓글 트리 노드 프로젝션 (ID + 기준 댓글로부터의 깊이)
+ */
+public interface CommentNodeView {
+
+    Long getId();
+
+    Integer getDepth();
+}
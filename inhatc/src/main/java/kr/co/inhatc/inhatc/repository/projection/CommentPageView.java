@@ -0,0 +1,31 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 페이지 조회용 프로젝션
+ * 게시글 / 부모 댓글은 FK 값만, 작성자는 이메일과 이름만 스칼라 컬럼으로 조회 (지연 로딩 프록시 없음)
+ */
+public interface CommentPageView {
+
+    Long getId();
+
+    Long getPostId();
+
+    String getComment();
+
+    String getWriterEmail();
+
+    String getWriterName();
+
+    LocalDateTime getCreateDate();
+
+    Long getParentCommentId();
+
+    Long getReplyCount();
+
+    Integer getDepth();
+
+    // 게시글 전체 댓글 수 (윈도 함수로 같은 쿼리에서 계산)
+    Long getTotalCount();
+}
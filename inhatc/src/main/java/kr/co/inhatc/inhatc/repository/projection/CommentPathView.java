@@ -0,0 +1,11 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+/**
+ * 댓글 경로 프로젝션 (ID + 경로, 경로가 아직 없으면 null)
+ */
+public interface CommentPathView {
+
+    Long getId();
+
+    String getPath();
+}
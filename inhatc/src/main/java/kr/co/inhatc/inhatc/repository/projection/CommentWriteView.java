@@ -0,0 +1,24 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+/**
+ * 댓글 작성 검증용 프로젝션
+ * 게시글 / 작성자 / 부모 댓글 정보를 한 번의 쿼리로 조회 (작성자 또는 부모 댓글이 없으면 해당 값은 null)
+ */
+public interface CommentWriteView {
+
+    Long getPostId();
+
+    String getPostOwnerEmail();
+
+    String getPostContent();
+
+    Character getPostDeleteYn();
+
+    String getWriterEmail();
+
+    String getWriterName();
+
+    Long getParentPostId();
+
+    String getParentPath();
+}
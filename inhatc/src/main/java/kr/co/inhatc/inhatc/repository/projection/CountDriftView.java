@@ -0,0 +1,13 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+/**
+ * 비정규화 카운터 보정용 프로젝션 (저장된 값 / 실제 값)
+ */
+public interface CountDriftView {
+
+    Long getId();
+
+    Long getStoredCount();
+
+    Long getActualCount();
+}
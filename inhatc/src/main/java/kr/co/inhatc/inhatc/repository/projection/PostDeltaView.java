@@ -0,0 +1,11 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+/**
+ * 게시글별 카운터 증감량 합계 프로젝션
+ */
+public interface PostDeltaView {
+
+    Long getPostId();
+
+    Long getDelta();
+}
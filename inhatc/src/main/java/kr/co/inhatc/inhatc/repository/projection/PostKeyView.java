@@ -0,0 +1,14 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 정렬 키 프로젝션 (ID + 생성일시)
+ * 피드 병합 시 엔티티 전체를 로딩하지 않기 위해 사용
+ */
+public interface PostKeyView {
+
+    Long getId();
+
+    LocalDateTime getCreatedDate();
+}
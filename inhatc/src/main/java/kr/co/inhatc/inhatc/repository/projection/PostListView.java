@@ -0,0 +1,30 @@
+package kr.co.inhatc.inhatc.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 프로젝션
+ * 목록 화면에 필요한 컬럼과 댓글 수만 조회 (댓글 엔티티는 로딩하지 않음)
+ */
+public interface PostListView {
+
+    Long getId();
+
+    String getContent();
+
+    int getHits();
+
+    int getLove();
+
+    String getImgsource();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getModifiedDate();
+
+    String getMemberEmail();
+
+    Character getDeleteYn();
+
+    long getCommentCount();
+}
@@ -0,0 +1,75 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import kr.co.inhatc.inhatc.repository.CommentRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CountDriftView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비정규화 댓글 카운터 보정
+ *
+ * - post_entity.comment_count / comments_entity.reply_count는 댓글 작성/삭제 시 증감으로 유지
+ * - 직접 SQL 수정, 일괄 삭제 등으로 어긋난 값을 ID 범위 단위로 실제 개수와 비교하여 복구
+ * - 범위마다 별도 트랜잭션으로 처리하므로 긴 잠금 없이 전체 테이블을 순회
+ */
+@Service
+@Slf4j
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${app.comment.count-reconcile-batch-size:1000}")
+    private long batchSize;
+
+    public CommentCountReconciler(PostRepository postRepository, CommentRepository commentRepository) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    /**
+     * 게시글 댓글 수 / 댓글 답글 수 보정 (기동 직후 1회 + 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.comment.count-reconcile-interval-ms:3600000}", initialDelay = 30000)
+    public void reconcile() {
+        int posts = reconcileCommentCounts();
+        int comments = reconcileReplyCounts();
+        if (posts > 0 || comments > 0) {
+            log.info("댓글 카운터 보정 완료: posts={}, comments={}", posts, comments);
+        }
+    }
+
+    /**
+     * 게시글 댓글 수 보정 (범위마다 UPDATE 1회)
+     */
+    int reconcileCommentCounts() {
+        Long maxId = postRepository.findMaxId();
+        int fixed = 0;
+        for (long from = 1; maxId != null && from <= maxId; from += batchSize) {
+            fixed += postRepository.reconcileCommentCounts(from, from + batchSize - 1);
+        }
+        return fixed;
+    }
+
+    /**
+     * 댓글 답글 수 보정 (범위마다 어긋난 댓글만 조회 후 갱신)
+     */
+    int reconcileReplyCounts() {
+        Long maxId = commentRepository.findMaxId();
+        int fixed = 0;
+        for (long from = 1; maxId != null && from <= maxId; from += batchSize) {
+            List<CountDriftView> drifts = commentRepository.findReplyCountDrift(from, from + batchSize - 1);
+            for (CountDriftView drift : drifts) {
+                // 조회 이후 증감된 댓글은 건너뛰고 다음 주기에 다시 확인
+                fixed += commentRepository.reconcileReplyCount(drift.getId(), drift.getStoredCount(), drift.getActualCount());
+            }
+        }
+        return fixed;
+    }
+}
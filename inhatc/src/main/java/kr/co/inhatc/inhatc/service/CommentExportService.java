@@ -0,0 +1,56 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import kr.co.inhatc.inhatc.dto.CommentExportDTO;
+import kr.co.inhatc.inhatc.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 댓글 내보내기 (NDJSON)
+ *
+ * - 댓글을 목록으로 모으지 않고 스트리밍 결과 집합(fetch size Integer.MIN_VALUE)으로 읽으면서 바로 응답에 기록
+ * - 생성자 표현식 프로젝션이라 엔티티/연관 로딩이 없어 댓글 수와 무관하게 메모리 사용량 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentExportService {
+
+    // 이 개수마다 응답 버퍼를 비워 클라이언트로 전송
+    private static final int FLUSH_EVERY = 500;
+
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 작성자 이메일 기준 댓글 내보내기 (한 줄에 댓글 하나, ID 순)
+     *
+     * @return 기록한 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportByMemberEmail(String memberEmail, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(CommentExportDTO.class);
+        long count = 0;
+        try (Stream<CommentExportDTO> comments = commentRepository.streamExportByMemberEmail(memberEmail)) {
+            Iterator<CommentExportDTO> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
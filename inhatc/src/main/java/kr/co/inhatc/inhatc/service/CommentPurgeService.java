@@ -0,0 +1,97 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import kr.co.inhatc.inhatc.repository.CommentRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CommentNodeView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 일괄 삭제 서비스
+ *
+ * - 재귀 CTE로 삭제할 댓글 트리의 ID/깊이만 조회 (엔티티를 로딩하지 않음)
+ * - 가장 깊은 답글부터 깊이별로 batch-size개씩 DELETE ... WHERE id IN (...) 실행 (FK 순서 보장)
+ * - 배치마다 별도 트랜잭션(REQUIRES_NEW)으로 커밋하여 큰 스레드도 잠금을 오래 잡지 않음
+ * - 배치와 같은 트랜잭션에서 실제 삭제된 행 수만큼 게시글 댓글 수를, 부모 댓글 답글 수를 함께 차감
+ */
+@Service
+@Slf4j
+public class CommentPurgeService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate batchTransaction;
+
+    @Value("${app.comment.purge-batch-size:500}")
+    private int batchSize;
+
+    public CommentPurgeService(CommentRepository commentRepository,
+                               PostRepository postRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 댓글과 모든 하위 답글 삭제
+     * 배치마다 자체 트랜잭션을 사용하므로 바깥 트랜잭션 없이 호출해야 함 (커넥션 2개 점유 방지)
+     * 중간 배치가 실패해도 깊은 답글부터 지우므로 남은 댓글은 온전한 트리이며, 다시 호출하면 이어서 삭제됨
+     *
+     * @param parentCommentId 삭제할 댓글의 부모 댓글 ID (최상위 댓글이면 null)
+     * @return 삭제된 댓글 수
+     */
+    public int deleteSubtree(Long postId, Long commentId, Long parentCommentId) {
+        List<CommentNodeView> nodes = commentRepository.findSubtreeNodes(commentId);
+        int deleted = deleteInBatches(postId, nodes, parentCommentId);
+        log.debug("댓글 트리 삭제 완료: postId={}, commentId={}, deleted={}", postId, commentId, deleted);
+        return deleted;
+    }
+
+    /**
+     * 깊은 답글부터 같은 깊이끼리만 묶어 배치 삭제
+     * (한 배치에 부모와 자식이 섞이면 DELETE 실행 순서에 따라 FK 위반이 발생할 수 있음)
+     */
+    private int deleteInBatches(Long postId, List<CommentNodeView> nodes, Long rootParentId) {
+        int deleted = 0;
+        List<Long> batch = new ArrayList<>();
+        Integer batchDepth = null;
+        for (CommentNodeView node : nodes) {
+            if (!batch.isEmpty() && (batch.size() >= batchSize || !node.getDepth().equals(batchDepth))) {
+                deleted += deleteBatch(postId, batch, null);
+                batch = new ArrayList<>();
+            }
+            batchDepth = node.getDepth();
+            batch.add(node.getId());
+        }
+        if (!batch.isEmpty()) {
+            // 마지막 배치에 기준 댓글(깊이 0)이 포함되므로 부모 댓글의 답글 수를 함께 차감
+            deleted += deleteBatch(postId, batch, rootParentId);
+        }
+        return deleted;
+    }
+
+    private int deleteBatch(Long postId, List<Long> ids, Long rootParentId) {
+        return batchTransaction.execute(status -> {
+            // 동시에 다른 요청이 먼저 지운 행은 차감하지 않음
+            int deleted = commentRepository.deleteByIdIn(ids);
+            if (deleted == 0) {
+                return 0;
+            }
+            postRepository.addCommentCount(postId, -deleted);
+            if (rootParentId != null) {
+                commentRepository.addReplyCount(rootParentId, -1);
+            }
+            return deleted;
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.inhatc.inhatc.exception.RateLimitExceededException;
+
+/**
+ * 댓글 작성 요청 제한 (토큰 버킷, in-process)
+ *
+ * - (회원, 게시글) 버킷과 회원 전체 버킷을 모두 통과해야 작성 가능
+ * - 버킷 상태는 불변 record를 AtomicReference에 두고 CAS로 갱신 (잠금 없음)
+ * - 회원 버킷에서 거절되면 이미 꺼낸 게시글 버킷 토큰을 되돌림
+ * - 거절 시 토큰이 다시 찰 때까지의 시간을 Retry-After(초)로 전달하고 거절 수를 지표로 노출
+ * - 가득 찬 버킷은 주기적으로 제거하여 메모리를 회수
+ */
+@Component
+public class CommentRateLimiter {
+
+    private record Bucket(double tokens, long updatedAt) {
+    }
+
+    private record Limit(double capacity, double refillPerMilli) {
+
+        static Limit of(int capacity, int refillPerMinute) {
+            return new Limit(capacity, refillPerMinute / 60_000.0);
+        }
+
+        /**
+         * 경과 시간만큼 채운 토큰 수 (최대 capacity)
+         */
+        double refill(Bucket bucket, long now) {
+            long elapsed = Math.max(0, now - bucket.updatedAt());
+            return Math.min(capacity, bucket.tokens() + elapsed * refillPerMilli);
+        }
+    }
+
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> postBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> memberBuckets = new ConcurrentHashMap<>();
+    private final Limit postLimit;
+    private final Limit memberLimit;
+    private final Counter postRejections;
+    private final Counter memberRejections;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    public CommentRateLimiter(MeterRegistry meterRegistry,
+                              @Value("${app.comment.rate-limit.post-capacity:5}") int postCapacity,
+                              @Value("${app.comment.rate-limit.post-refill-per-minute:10}") int postRefillPerMinute,
+                              @Value("${app.comment.rate-limit.member-capacity:20}") int memberCapacity,
+                              @Value("${app.comment.rate-limit.member-refill-per-minute:30}") int memberRefillPerMinute) {
+        this.postLimit = Limit.of(postCapacity, postRefillPerMinute);
+        this.memberLimit = Limit.of(memberCapacity, memberRefillPerMinute);
+        this.postRejections = Counter.builder("comment.rate.limit.rejected").tag("scope", "post").register(meterRegistry);
+        this.memberRejections = Counter.builder("comment.rate.limit.rejected").tag("scope", "member").register(meterRegistry);
+    }
+
+    /**
+     * 댓글 작성 토큰 1개 사용 (한도 초과 시 RateLimitExceededException)
+     */
+    public void acquire(String memberEmail, Long postId) {
+        long now = clock.millis();
+
+        AtomicReference<Bucket> postBucket = bucket(postBuckets, memberEmail + ":" + postId, postLimit, now);
+        long postWait = tryTake(postBucket, postLimit, now);
+        if (postWait > 0) {
+            postRejections.increment();
+            throw new RateLimitExceededException(toSeconds(postWait));
+        }
+
+        AtomicReference<Bucket> memberBucket = bucket(memberBuckets, memberEmail, memberLimit, now);
+        long memberWait = tryTake(memberBucket, memberLimit, now);
+        if (memberWait > 0) {
+            refund(postBucket, postLimit);
+            memberRejections.increment();
+            throw new RateLimitExceededException(toSeconds(memberWait));
+        }
+    }
+
+    /**
+     * 가득 찬(오랫동안 사용되지 않은) 버킷 제거
+     * 제거 직전에 토큰을 꺼낸 요청이 있어도 새 버킷이 가득 찬 상태로 시작하므로 최대 1개만 더 허용됨
+     */
+    @Scheduled(fixedDelayString = "${app.comment.rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = clock.millis();
+        postBuckets.values().removeIf(ref -> postLimit.refill(ref.get(), now) >= postLimit.capacity());
+        memberBuckets.values().removeIf(ref -> memberLimit.refill(ref.get(), now) >= memberLimit.capacity());
+    }
+
+    public int size() {
+        return postBuckets.size() + memberBuckets.size();
+    }
+
+    private AtomicReference<Bucket> bucket(ConcurrentHashMap<String, AtomicReference<Bucket>> buckets,
+                                           String key, Limit limit, long now) {
+        return buckets.computeIfAbsent(key, k -> new AtomicReference<>(new Bucket(limit.capacity(), now)));
+    }
+
+    /**
+     * 토큰 1개를 꺼냄
+     *
+     * @return 0이면 성공, 아니면 토큰 1개가 찰 때까지 남은 시간 (밀리초)
+     */
+    private long tryTake(AtomicReference<Bucket> ref, Limit limit, long now) {
+        while (true) {
+            Bucket current = ref.get();
+            double tokens = limit.refill(current, now);
+            if (tokens < 1) {
+                return Math.max(1, (long) Math.ceil((1 - tokens) / limit.refillPerMilli()));
+            }
+            if (ref.compareAndSet(current, new Bucket(tokens - 1, Math.max(now, current.updatedAt())))) {
+                return 0;
+            }
+        }
+    }
+
+    private void refund(AtomicReference<Bucket> ref, Limit limit) {
+        ref.updateAndGet(bucket -> new Bucket(Math.min(limit.capacity(), bucket.tokens() + 1), bucket.updatedAt()));
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
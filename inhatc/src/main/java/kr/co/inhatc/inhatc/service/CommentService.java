@@ -1,22 +1,33 @@
 package kr.co.inhatc.inhatc.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
+import kr.co.inhatc.inhatc.constants.AppConstants;
 import kr.co.inhatc.inhatc.dto.CommentRequestDTO;
 import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.entity.CommentEntity;
-import kr.co.inhatc.inhatc.entity.MemberEntity;
-import kr.co.inhatc.inhatc.entity.PostEntity;
+import kr.co.inhatc.inhatc.exception.CustomException;
+import kr.co.inhatc.inhatc.exception.ErrorCode;
 import kr.co.inhatc.inhatc.repository.CommentRepository;
-import kr.co.inhatc.inhatc.repository.MemberRepository;
 import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CommentPageView;
+import kr.co.inhatc.inhatc.repository.projection.CommentPathView;
+import kr.co.inhatc.inhatc.repository.projection.CommentWriteView;
+import kr.co.inhatc.inhatc.util.CommentTreeBuilder;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -25,19 +36,28 @@ import lombok.extern.slf4j.Slf4j;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final NotificationService notificationService;
+    private final TrendingService trendingService;
+    private final CommentThreadCache commentThreadCache;
+    private final CommentPurgeService commentPurgeService;
+
+    @Value("${app.comment.max-depth:10}")
+    private int maxReplyDepth;
 
     // @Lazy를 생성자 파라미터에 적용하여 순환 참조 방지
     public CommentService(CommentRepository commentRepository,
-                          MemberRepository memberRepository,
                           PostRepository postRepository,
-                          @Lazy NotificationService notificationService) {
+                          @Lazy NotificationService notificationService,
+                          TrendingService trendingService,
+                          CommentThreadCache commentThreadCache,
+                          CommentPurgeService commentPurgeService) {
         this.commentRepository = commentRepository;
-        this.memberRepository = memberRepository;
         this.postRepository = postRepository;
         this.notificationService = notificationService;
+        this.trendingService = trendingService;
+        this.commentThreadCache = commentThreadCache;
+        this.commentPurgeService = commentPurgeService;
     }
 
     /**
@@ -52,85 +72,195 @@ public class CommentService {
 
     /**
      * ✅ 게시글별 댓글 전체 조회 (N+1 문제 해결, 계층적 구조 지원)
+     * 부모 댓글 ID 기준으로 한 번에 트리를 조립하며, 최대 깊이보다 깊은 답글은 접어서 표시
+     * 조립된 트리는 게시글별로 캐시 (댓글 작성/수정/삭제 시 무효화)
      */
     public List<CommentResponseDTO> getCommentsByPostId(Long postId) {
-        // JOIN FETCH로 Writer와 Post를 한 번에 조회
-        List<CommentEntity> allComments = commentRepository.findByPostIdWithWriter(postId);
-        
-        // 부모 댓글만 필터링 (parentComment가 null인 것들)
-        List<CommentEntity> parentComments = allComments.stream()
-                .filter(comment -> comment.getParentComment() == null)
+        return commentThreadCache.get(postId, () -> {
+            // JOIN FETCH로 Writer와 Post를 한 번에 조회
+            List<CommentResponseDTO> allComments = commentRepository.findByPostIdWithWriter(postId).stream()
+                    .map(CommentResponseDTO::new)
+                    .collect(Collectors.toList());
+
+            return CommentTreeBuilder.build(allComments, maxReplyDepth);
+        });
+    }
+
+    /**
+     * ✅ 게시글별 댓글 조회 (페이징 지원, 최신순)
+     * 스칼라 프로젝션 한 번으로 페이지 내용과 전체 개수를 함께 조회 (페이지 크기와 무관하게 SQL 1회)
+     */
+    public Page<CommentResponseDTO> getCommentsByPostId(Long postId, Pageable pageable) {
+        // 정렬은 쿼리에 고정 (최신순), 요청의 페이지 번호/크기만 사용
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        List<CommentPageView> rows = commentRepository.findPageByPostId(postId, page);
+        List<CommentResponseDTO> content = rows.stream().map(CommentResponseDTO::from).toList();
+        // 첫 페이지가 덜 찼으면 전체 개수를 바로 알 수 있고, 범위를 벗어난 빈 페이지에서만 count 쿼리 실행
+        return PageableExecutionUtils.getPage(content, page,
+                () -> rows.isEmpty() ? commentRepository.countByPostId(postId) : rows.get(0).getTotalCount());
+    }
+
+    /**
+     * ✅ 댓글 스레드 조회 (커서 기반 페이징)
+     * 최상위 댓글만 (createDate, id) 키셋으로 페이징하고, 각 댓글에 답글 수와 앞쪽 답글 일부를 함께 제공
+     *
+     * @param replySize 댓글마다 함께 조회할 답글 수 (0이면 답글 미리보기 없음)
+     */
+    public CursorPageDTO<CommentResponseDTO> getThreadsByCursor(Long postId, String cursor, int size, int replySize) {
+        int pageSize = AppConstants.Pagination.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<CommentEntity> roots = after == null
+                ? commentRepository.findRootsFirstPage(postId, limit)
+                : commentRepository.findRootsAfter(postId, after.getCreatedAt(), after.getId(), limit);
+
+        String nextCursor = null;
+        if (roots.size() > pageSize) {
+            roots = roots.subList(0, pageSize);
+            CommentEntity last = roots.get(roots.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreateDate(), last.getId());
+        }
+
+        List<CommentResponseDTO> threads = roots.stream()
+                .map(CommentResponseDTO::new)
                 .collect(Collectors.toList());
-        
-        // 각 부모 댓글에 답글 추가
-        return parentComments.stream()
-                .map(parent -> {
-                    CommentResponseDTO dto = new CommentResponseDTO(parent);
-                    // 해당 부모 댓글의 답글들 찾기
-                    List<CommentResponseDTO> replies = allComments.stream()
-                            .filter(comment -> comment.getParentComment() != null 
-                                    && comment.getParentComment().getId().equals(parent.getId()))
-                            .map(CommentResponseDTO::new)
-                            .collect(Collectors.toList());
-                    dto.setReplies(replies);
-                    return dto;
-                })
+        attachReplyPreviews(threads, Math.max(0, Math.min(replySize, AppConstants.Pagination.MAX_REPLY_PREVIEW_SIZE)));
+
+        return CursorPageDTO.of(threads, nextCursor, pageSize);
+    }
+
+    /**
+     * ✅ 특정 댓글의 답글 조회 (커서 기반 페이징, 작성순)
+     * 댓글이 해당 게시글에 속하지 않으면 빈 페이지 (게시글 조건을 같은 쿼리에서 확인)
+     */
+    public CursorPageDTO<CommentResponseDTO> getRepliesByCursor(Long postId, Long commentId, String cursor, int size) {
+        int pageSize = AppConstants.Pagination.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<CommentEntity> replies = after == null
+                ? commentRepository.findRepliesFirstPage(postId, commentId, limit)
+                : commentRepository.findRepliesAfter(postId, commentId, after.getCreatedAt(), after.getId(), limit);
+
+        String nextCursor = null;
+        if (replies.size() > pageSize) {
+            replies = replies.subList(0, pageSize);
+            CommentEntity last = replies.get(replies.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreateDate(), last.getId());
+        }
+
+        List<CommentResponseDTO> dtos = replies.stream()
+                .map(CommentResponseDTO::new)
                 .collect(Collectors.toList());
+
+        return CursorPageDTO.of(dtos, nextCursor, pageSize);
     }
 
     /**
-     * ✅ 게시글별 댓글 조회 (페이징 지원, N+1 문제 해결)
+     * ✅ 댓글 하위 트리 조회 (자신 포함, 전위 순회 순서의 평면 목록)
+     * 경로 접두사로 한 번의 인덱스 범위 스캔 (depth로 들여쓰기 표시)
      */
-    public Page<CommentResponseDTO> getCommentsByPostId(Long postId, Pageable pageable) {
-        // @EntityGraph로 Writer와 Post를 한 번에 조회
-        Page<CommentEntity> commentPage = commentRepository.findByPostIdOrderByCreateDateDesc(postId, pageable);
-        return commentPage.map(CommentResponseDTO::new);
+    public List<CommentResponseDTO> getSubtree(Long postId, Long commentId) {
+        CommentEntity root = commentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("댓글이 존재하지 않습니다."));
+
+        // 게시글 불일치 방지
+        if (!root.getPost().getId().equals(postId)) {
+            throw new RuntimeException("해당 댓글은 이 게시글에 속하지 않습니다.");
+        }
+        if (root.getPath() == null) {
+            // 최대 깊이를 넘어 경로가 없는 댓글은 자신만 반환
+            return List.of(new CommentResponseDTO(root));
+        }
+
+        return commentRepository.findByPathPrefix(postId, root.getPath() + "%").stream()
+                .map(CommentResponseDTO::new)
+                .collect(Collectors.toList());
     }
 
     /**
      * ✅ 댓글 추가 (대댓글 지원)
+     * 경로는 생성된 ID로 만들므로 INSERT 이후 같은 트랜잭션에서 UPDATE 1회로 설정
+     * 답글 깊이는 경로 컬럼 길이로 정해지는 CommentEntity.MAX_DEPTH까지 저장 가능
+     * (app.comment.max-depth는 표시 깊이이며, 더 깊은 답글은 목록으로 접어서 표시)
+     *
+     * @throws CustomException 경로를 저장할 수 없을 만큼 깊은 답글인 경우 (COMMENT_DEPTH_EXCEEDED)
      */
     public CommentResponseDTO addComment(CommentRequestDTO requestDTO) {
         log.debug("댓글 작성 요청: user={}, article={}, parentCommentId={}", 
                 requestDTO.getUser(), requestDTO.getArticle(), requestDTO.getParentCommentId());
 
-        MemberEntity writer = memberRepository.findByMemberEmail(requestDTO.getUser())
-                .orElseThrow(() -> new RuntimeException("댓글 작성자를 찾을 수 없습니다."));
+        Long postId = requestDTO.getArticle();
+        Long parentCommentId = requestDTO.getParentCommentId();
 
-        PostEntity post = postRepository.findById(requestDTO.getArticle())
+        // 게시글 / 작성자 / 부모 댓글을 한 번의 쿼리로 검증
+        CommentWriteView context = commentRepository.findWriteContext(postId, requestDTO.getUser(), parentCommentId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        if (context.getWriterEmail() == null) {
+            throw new RuntimeException("댓글 작성자를 찾을 수 없습니다.");
+        }
 
-        // 부모 댓글 조회 (대댓글인 경우)
+        // 부모 댓글 검증 (대댓글인 경우)
         CommentEntity parentComment = null;
-        if (requestDTO.getParentCommentId() != null) {
-            parentComment = commentRepository.findById(requestDTO.getParentCommentId())
-                    .orElseThrow(() -> new RuntimeException("부모 댓글을 찾을 수 없습니다."));
+        String parentPath = null;
+        if (parentCommentId != null) {
+            if (context.getParentPostId() == null) {
+                throw new RuntimeException("부모 댓글을 찾을 수 없습니다.");
+            }
             // 부모 댓글이 같은 게시글에 속하는지 확인
-            if (!parentComment.getPost().getId().equals(post.getId())) {
+            if (!context.getParentPostId().equals(postId)) {
                 throw new RuntimeException("부모 댓글과 게시글이 일치하지 않습니다.");
             }
+            // 부모 경로가 아직 없으면(백필 전) 조상 경로를 먼저 채워 답글도 바로 경로를 가짐
+            parentPath = context.getParentPath() != null ? context.getParentPath() : resolvePath(parentCommentId);
+            if (parentPath == null
+                    || parentPath.length() / CommentEntity.PATH_SEGMENT_LENGTH > CommentEntity.MAX_DEPTH) {
+                throw new CustomException(ErrorCode.COMMENT_DEPTH_EXCEEDED);
+            }
+            parentComment = commentRepository.getReferenceById(parentCommentId);
         }
 
-        CommentEntity comment = CommentEntity.builder()
-                .comment(requestDTO.getComment())
-                .writer(writer)
-                .post(post)
-                .parentComment(parentComment)
-                .build();
+        // 검증이 끝났으므로 게시글/부모 댓글은 조회 없이 참조 프록시로 연결
+        CommentEntity comment = CommentEntity.of(
+                requestDTO.getComment(),
+                postRepository.getReferenceById(postId),
+                context.getWriterEmail(),
+                parentComment);
 
         CommentEntity saved = commentRepository.save(comment);
+        // 생성된 ID로 경로 설정
+        saved.assignPath(parentPath);
+        adjustCounts(postId, parentComment, 1);
+        commentThreadCache.invalidate(postId);
+        // 삭제된 게시글은 인기 게시글 집계에 포함하지 않음
+        if (Character.valueOf('N').equals(context.getPostDeleteYn())) {
+            trendingService.recordComment(postId);
+        }
         
         // 댓글 알림 생성 (대댓글이 아닌 경우에만)
         if (parentComment == null) {
             try {
-                notificationService.createCommentNotification(post.getId(), requestDTO.getUser());
+                notificationService.createCommentNotification(context);
             } catch (Exception e) {
                 // 알림 생성 실패해도 댓글은 정상 처리
-                log.warn("알림 생성 실패: postId={}, user={}", post.getId(), requestDTO.getUser(), e);
+                log.warn("알림 생성 실패: postId={}, user={}", postId, requestDTO.getUser(), e);
             }
         }
         
-        return new CommentResponseDTO(saved);
+        CommentResponseDTO response = CommentResponseDTO.builder()
+                .id(saved.getId())
+                .post(postId)
+                .comment(saved.getComment())
+                .writer(context.getWriterEmail())
+                .writerName(context.getWriterName())
+                .writerProfile(CommentResponseDTO.profilePath(context.getWriterEmail()))
+                .createdDate(saved.getCreateDate())
+                .parentCommentId(parentCommentId)
+                .build();
+        response.setDepth(saved.getDepth());
+        return response;
     }
 
     /**
@@ -153,12 +283,18 @@ public class CommentService {
         // 내용 수정 후 저장
         comment.update(requestDTO.getComment());
         commentRepository.save(comment);
+        commentThreadCache.invalidate(postId);
     }
 
     /**
-     * ✅ 댓글 삭제
+     * ✅ 댓글 삭제 (하위 답글 포함, 배치 단위 일괄 삭제)
+     * 배치 삭제가 배치마다 트랜잭션을 커밋하므로 이 메서드는 트랜잭션 없이 실행 (요청당 커넥션 1개만 사용)
+     * 일부 배치만 삭제된 채 실패하면 예외를 그대로 전달하며, 같은 요청을 다시 보내면 남은 댓글을 이어서 삭제
+     *
+     * @param loginEmail 요청한 사용자 이메일 (세션)
      */
-    public void deleteComment(Long postId, Long commentId) {
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void deleteComment(Long postId, Long commentId, String loginEmail) {
         CommentEntity comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글이 존재하지 않습니다."));
 
@@ -167,6 +303,77 @@ public class CommentService {
             throw new RuntimeException("해당 댓글은 이 게시글에 속하지 않습니다.");
         }
 
-        commentRepository.delete(comment);
+        // 작성자 일치 여부 확인 (답글까지 함께 삭제되므로 삭제 전에 확인)
+        if (!comment.getWriter().getMemberEmail().equals(loginEmail)) {
+            throw new RuntimeException("본인이 작성한 댓글만 삭제할 수 있습니다.");
+        }
+
+        Long parentCommentId = comment.getParentComment() != null ? comment.getParentComment().getId() : null;
+        try {
+            commentPurgeService.deleteSubtree(postId, commentId, parentCommentId);
+        } finally {
+            // 일부만 삭제되고 실패한 경우에도 캐시된 트리는 더 이상 맞지 않음
+            commentThreadCache.invalidate(postId);
+        }
+    }
+
+    /**
+     * 경로가 아직 없는 댓글의 경로를 조상부터 채워서 반환 (재귀 CTE 1회 + 경로가 없던 조상마다 UPDATE 1회)
+     * 최대 깊이를 넘는 조상이 있으면 백필과 같이 경로 없이 두고 null 반환
+     */
+    private String resolvePath(Long commentId) {
+        String path = null;
+        for (CommentPathView node : commentRepository.findUnpathedAncestors(commentId)) {
+            if (node.getPath() != null) {
+                path = node.getPath();
+                continue;
+            }
+            if (path != null && path.length() / CommentEntity.PATH_SEGMENT_LENGTH > CommentEntity.MAX_DEPTH) {
+                return null;
+            }
+            path = (path != null ? path : "") + CommentEntity.pathSegment(node.getId());
+            commentRepository.assignPathIfAbsent(node.getId(), path,
+                    path.length() / CommentEntity.PATH_SEGMENT_LENGTH - 1);
+        }
+        return path;
+    }
+
+    /**
+     * 게시글 댓글 수와 부모 댓글 답글 수를 원자적으로 증감 (댓글 작성과 같은 트랜잭션)
+     */
+    private void adjustCounts(Long postId, CommentEntity parentComment, long delta) {
+        postRepository.addCommentCount(postId, delta);
+        if (parentComment != null) {
+            commentRepository.addReplyCount(parentComment.getId(), delta);
+        }
+    }
+
+    /**
+     * 최상위 댓글마다 앞쪽 답글 previewSize개를 채움 (댓글 수와 무관하게 쿼리 2회)
+     */
+    private void attachReplyPreviews(List<CommentResponseDTO> threads, int previewSize) {
+        if (threads.isEmpty()) {
+            return;
+        }
+
+        List<Long> rootIds = threads.stream().map(CommentResponseDTO::getId).collect(Collectors.toList());
+        List<CommentResponseDTO> previews = new ArrayList<>();
+        if (previewSize > 0) {
+            List<Long> previewIds = commentRepository.findReplyPreviewIds(rootIds, previewSize);
+            if (!previewIds.isEmpty()) {
+                commentRepository.findWithWriterByIdIn(previewIds).forEach(reply -> previews.add(new CommentResponseDTO(reply)));
+            }
+        }
+
+        Map<Long, List<CommentResponseDTO>> previewsByParent = previews.stream()
+                .collect(Collectors.groupingBy(CommentResponseDTO::getParentCommentId));
+        for (CommentResponseDTO thread : threads) {
+            List<CommentResponseDTO> replies = previewsByParent.getOrDefault(thread.getId(), new ArrayList<>());
+            thread.setReplies(replies);
+            if (!replies.isEmpty() && thread.getReplyCount() > replies.size()) {
+                CommentResponseDTO last = replies.get(replies.size() - 1);
+                thread.setRepliesNextCursor(KeysetCursor.encode(last.getCreatedDate(), last.getId()));
+            }
+        }
     }
 }
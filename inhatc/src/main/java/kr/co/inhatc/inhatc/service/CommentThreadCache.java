@@ -0,0 +1,120 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+
+/**
+ * 게시글별 댓글 트리 캐시 (in-process)
+ *
+ * - 조립된 댓글 트리를 게시글 ID 단위로 보관하며, 최대 개수(LRU)와 TTL로 제거
+ * - 댓글 작성/수정/삭제 시 해당 게시글 항목을 무효화 (트랜잭션 커밋 이후에도 한 번 더 무효화)
+ * - 무효화와 동시에 진행 중이던 같은 게시글의 조회 결과는 캐시에 저장하지 않음 (게시글별 조회 표식 비교)
+ * - 적중/미적중 수와 보관 개수를 Micrometer 지표로 노출 (comment.thread.cache.*)
+ */
+@Component
+public class CommentThreadCache {
+
+    private record CachedThread(List<CommentResponseDTO> comments, Instant expiresAt) {
+    }
+
+    private final Map<Long, CachedThread> entries;
+    // 진행 중인 조회의 게시글별 표식 (무효화 시 제거, 진행 중인 조회 수만큼만 보관)
+    private final Map<Long, Object> pendingLoads = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Duration ttl;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    public CommentThreadCache(MeterRegistry meterRegistry,
+                              @Value("${app.comment.cache.max-size:1000}") int maxSize,
+                              @Value("${app.comment.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        // 접근 순서 LinkedHashMap: 최대 개수를 넘으면 가장 오래 사용되지 않은 게시글부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedThread> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder("comment.thread.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("comment.thread.cache.requests").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("comment.thread.cache.size", this, CommentThreadCache::size);
+    }
+
+    /**
+     * 캐시된 댓글 트리 조회 (없거나 만료되었으면 loader로 조회 후 저장)
+     */
+    public List<CommentResponseDTO> get(Long postId, Supplier<List<CommentResponseDTO>> loader) {
+        Object loadStamp = new Object();
+        synchronized (this) {
+            CachedThread cached = entries.get(postId);
+            if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+                hits.increment();
+                return cached.comments();
+            }
+            if (cached != null) {
+                entries.remove(postId);
+            }
+            pendingLoads.put(postId, loadStamp);
+        }
+
+        misses.increment();
+        List<CommentResponseDTO> comments;
+        try {
+            comments = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingLoads.remove(postId, loadStamp);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            // 조회 도중 이 게시글이 무효화되었거나 더 나중의 조회가 시작되었다면 저장하지 않음
+            if (pendingLoads.remove(postId, loadStamp)) {
+                entries.put(postId, new CachedThread(List.copyOf(comments), clock.instant().plus(ttl)));
+            }
+        }
+        return comments;
+    }
+
+    /**
+     * 게시글 댓글 트리 무효화 (트랜잭션 중이면 커밋 이후 한 번 더 무효화)
+     */
+    public void invalidate(Long postId) {
+        evict(postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(postId);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(Long postId) {
+        pendingLoads.remove(postId);
+        entries.remove(postId);
+    }
+}
@@ -23,6 +23,7 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final MemberRepository memberRepository;
+    private final TimelineService timelineService;
 
     /**
      * 팔로우하기
@@ -46,6 +47,7 @@ public class FollowService {
 
         FollowEntity followEntity = new FollowEntity(follower, following);
         followRepository.save(followEntity);
+        timelineService.onFollow(followerEmail, followingEmail);
         log.info("팔로우 성공: {} -> {}", followerEmail, followingEmail);
     }
 
@@ -64,6 +66,7 @@ public class FollowService {
                 .orElseThrow(() -> new RuntimeException("팔로우 관계가 존재하지 않습니다."));
 
         followRepository.delete(followEntity);
+        timelineService.onUnfollow(followerEmail, followingEmail);
         log.info("언팔로우 성공: {} -> {}", followerEmail, followingEmail);
     }
 
@@ -0,0 +1,103 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.inhatc.inhatc.entity.LikeCounterShardEntity;
+import kr.co.inhatc.inhatc.repository.LikeCounterShardRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.PostDeltaView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 수 카운터 서비스 (sharded counter)
+ *
+ * - 좋아요/취소 시 게시글별 샤드 중 하나를 무작위로 골라 증감량만 원자적으로 누적
+ * - 조회 시 post_entity.love + 미반영 샤드 합계를 반환하므로 항상 정확한 값을 제공
+ * - 주기적으로 샤드 합계를 post_entity.love에 반영하고 샤드 행을 삭제 (compaction)
+ */
+@Service
+@Slf4j
+public class LikeCounterService {
+
+    private final LikeCounterShardRepository shardRepository;
+    private final PostRepository postRepository;
+
+    @Value("${app.like.counter-shards:8}")
+    private int shardCount;
+
+    @Value("${app.like.compact-batch-size:500}")
+    private int compactBatchSize;
+
+    public LikeCounterService(LikeCounterShardRepository shardRepository, PostRepository postRepository) {
+        this.shardRepository = shardRepository;
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 좋아요 수 증감 (샤드 행에만 기록)
+     */
+    @Transactional
+    public void add(Long postId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        if (shardRepository.addDelta(postId, shard, delta) == 0) {
+            // 샤드 행이 없으면 새로 생성 (동시에 생성되어 중복 행이 생겨도 합계는 동일)
+            shardRepository.save(new LikeCounterShardEntity(postId, shard, delta));
+        }
+    }
+
+    /**
+     * 게시글별 미반영 증감량 조회 (한 번의 쿼리)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> pendingDeltas(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return shardRepository.sumDeltaByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostDeltaView::getPostId, PostDeltaView::getDelta));
+    }
+
+    /**
+     * 샤드 합계를 post_entity.love에 반영 (compaction)
+     * 합산할 샤드 행을 잠근 뒤 읽은 행만 삭제하므로, 합산 도중 새로 생성된 샤드 행은 다음 주기에 반영됨
+     */
+    @Scheduled(fixedDelayString = "${app.like.compact-interval-ms:60000}",
+               initialDelayString = "${app.like.compact-interval-ms:60000}")
+    @Transactional
+    public void compact() {
+        List<Long> postIds = shardRepository.findPostIdsWithDelta(PageRequest.of(0, compactBatchSize));
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        List<LikeCounterShardEntity> shards = shardRepository.findByPostIdInForUpdate(postIds);
+        Map<Long, Long> totals = new HashMap<>();
+        for (LikeCounterShardEntity shard : shards) {
+            totals.merge(shard.getPostId(), shard.getDelta(), Long::sum);
+        }
+
+        // 합계가 같은 게시글끼리 묶어 UPDATE 문 수를 줄임
+        Map<Integer, List<Long>> idsByDelta = new HashMap<>();
+        totals.forEach((postId, total) -> {
+            if (total != 0) {
+                idsByDelta.computeIfAbsent(total.intValue(), d -> new ArrayList<>()).add(postId);
+            }
+        });
+        idsByDelta.forEach((delta, ids) -> postRepository.addLove(ids, delta));
+
+        shardRepository.deleteAllByIdInBatch(shards.stream().map(LikeCounterShardEntity::getId).toList());
+        log.debug("좋아요 수 합산 완료: posts={}, shards={}", totals.size(), shards.size());
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.co.inhatc.inhatc.entity.MemberEntity;
+import kr.co.inhatc.inhatc.repository.MemberRepository;
+
+/**
+ * 회원 이메일 → 이름 캐시 (in-process)
+ *
+ * - 알림 목록 등에서 여러 회원의 이름을 한 번에 조회하며, 캐시에 없는 이메일만 IN 쿼리 1회로 조회
+ * - 최대 개수(LRU)와 짧은 TTL로 제거 (이름 변경 기능이 생겨도 TTL 이내에 반영)
+ * - 존재하지 않는 회원은 캐시하지 않음 (결과 Map에 포함되지 않음)
+ */
+@Component
+public class MemberNameCache {
+
+    private record CachedName(String name, Instant expiresAt) {
+    }
+
+    private final MemberRepository memberRepository;
+    private final Map<String, CachedName> entries;
+    private final Duration ttl;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    public MemberNameCache(MemberRepository memberRepository,
+                           @Value("${app.member.name-cache.max-size:10000}") int maxSize,
+                           @Value("${app.member.name-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        // 접근 순서 LinkedHashMap: 최대 개수를 넘으면 가장 오래 사용되지 않은 회원부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedName> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 회원 이름 조회 (없는 회원이면 null)
+     */
+    public String getName(String memberEmail) {
+        return getNames(List.of(memberEmail)).get(memberEmail);
+    }
+
+    /**
+     * 여러 회원 이름 조회 (캐시에 없는 이메일만 findByMemberEmailIn 1회로 조회)
+     *
+     * @return 이메일 → 이름 (존재하지 않는 회원은 제외)
+     */
+    public Map<String, String> getNames(Collection<String> memberEmails) {
+        Map<String, String> names = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        Instant now = clock.instant();
+        synchronized (this) {
+            for (String email : new LinkedHashSet<>(memberEmails)) {
+                CachedName cached = entries.get(email);
+                if (cached != null && now.isBefore(cached.expiresAt())) {
+                    names.put(email, cached.name());
+                } else {
+                    missing.add(email);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return names;
+        }
+
+        List<MemberEntity> members = memberRepository.findByMemberEmailIn(missing);
+        Instant expiresAt = clock.instant().plus(ttl);
+        synchronized (this) {
+            for (MemberEntity member : members) {
+                names.put(member.getMemberEmail(), member.getMemberName());
+                entries.put(member.getMemberEmail(), new CachedName(member.getMemberName(), expiresAt));
+            }
+        }
+        return names;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -1,19 +1,26 @@
 package kr.co.inhatc.inhatc.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.transaction.Transactional;
+import kr.co.inhatc.inhatc.constants.AppConstants;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.dto.NotificationDTO;
-import kr.co.inhatc.inhatc.entity.MemberEntity;
 import kr.co.inhatc.inhatc.entity.NotificationEntity;
 import kr.co.inhatc.inhatc.entity.PostEntity;
-import kr.co.inhatc.inhatc.repository.MemberRepository;
 import kr.co.inhatc.inhatc.repository.NotificationRepository;
 import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CommentWriteView;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,8 +32,9 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
+    private final MemberNameCache memberNameCache;
     private final SimpMessagingTemplate messagingTemplate; // 12-23 WebSocket 실시간 알림 전송을 위해 추가
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     /**
      * 알림 생성 (좋아요)
@@ -41,10 +49,8 @@ public class NotificationService {
         }
 
         // 이미 같은 사용자가 같은 게시물에 좋아요 알림을 보낸 경우 중복 방지
-        boolean exists = notificationRepository.findByPostId(postId).stream()
-                .anyMatch(n -> n.getActorEmail().equals(actorEmail) 
-                        && n.getNotificationType().equals("LIKE")
-                        && !n.getIsRead());
+        boolean exists = notificationRepository
+                .existsByPostIdAndActorEmailAndNotificationTypeAndIsReadFalse(postId, actorEmail, "LIKE");
 
         if (!exists) {
             NotificationEntity notification = NotificationEntity.builder()
@@ -55,6 +61,7 @@ public class NotificationService {
                     .build();
 
             NotificationEntity savedNotification = notificationRepository.save(notification);
+            unreadNotificationCounter.add(post.getMemberEmail(), 1);
             
             // 12-23 실시간 알림 전송 (WebSocket)
             sendNotificationToUser(post.getMemberEmail(), savedNotification);
@@ -63,77 +70,111 @@ public class NotificationService {
 
     /**
      * 알림 생성 (댓글)
+     * 댓글 작성 시 이미 조회한 게시글/작성자 정보를 사용하므로 추가 조회 없이 생성
      */
-    public void createCommentNotification(Long postId, String actorEmail) {
-        PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-
+    public void createCommentNotification(CommentWriteView context) {
         // 본인 게시물에 댓글을 남긴 경우 알림 생성하지 않음
-        if (post.getMemberEmail().equals(actorEmail)) {
+        if (context.getPostOwnerEmail().equals(context.getWriterEmail())) {
             return;
         }
 
         NotificationEntity notification = NotificationEntity.builder()
-                .post(post)
+                .post(postRepository.getReferenceById(context.getPostId()))
                 .notificationType("COMMENT")
-                .actorEmail(actorEmail)
-                .recipientEmail(post.getMemberEmail())
+                .actorEmail(context.getWriterEmail())
+                .recipientEmail(context.getPostOwnerEmail())
                 .build();
-        
+
         NotificationEntity savedNotification = notificationRepository.save(notification);
-        
+        unreadNotificationCounter.add(context.getPostOwnerEmail(), 1);
+
         // 12-23 실시간 알림 전송 (WebSocket)
-        sendNotificationToUser(post.getMemberEmail(), savedNotification);
+        NotificationDTO dto = NotificationDTO.fromEntity(savedNotification, context.getPostContent());
+        dto.setActorName(context.getWriterName());
+        publish(context.getPostOwnerEmail(), dto);
     }
 
     /**
-     * 사용자의 읽지 않은 알림 조회
+     * 알림 기록 조회 (커서 기반 페이징, 최신순)
+     * (createdAt, id) 키셋으로 조회하므로 오래된 페이지도 OFFSET 없이 같은 비용으로 조회
      */
-    public List<NotificationDTO> getUnreadNotifications(String recipientEmail) {
-        List<NotificationEntity> notifications = notificationRepository
-                .findByRecipientEmailAndIsReadFalseOrderByCreatedAtDesc(recipientEmail);
+    public CursorPageDTO<NotificationDTO> getNotificationsByCursor(String recipientEmail, String cursor, int size) {
+        int pageSize = AppConstants.Pagination.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        return notifications.stream()
-                .map(notification -> {
-                    NotificationDTO dto = NotificationDTO.fromEntity(notification);
-                    // actorName 설정
-                    memberRepository.findByMemberEmail(notification.getActorEmail())
-                            .ifPresent(member -> dto.setActorName(member.getMemberName()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<NotificationEntity> notifications = after == null
+                ? notificationRepository.findHistoryFirstPage(recipientEmail, limit)
+                : notificationRepository.findHistoryAfter(recipientEmail, after.getCreatedAt(), after.getId(), limit);
+        return toCursorPage(notifications, pageSize);
+    }
+
+    /**
+     * 읽지 않은 알림 조회 (커서 기반 페이징, 최신순)
+     */
+    public CursorPageDTO<NotificationDTO> getUnreadNotificationsByCursor(String recipientEmail, String cursor, int size) {
+        int pageSize = AppConstants.Pagination.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<NotificationEntity> notifications = after == null
+                ? notificationRepository.findUnreadFirstPage(recipientEmail, limit)
+                : notificationRepository.findUnreadAfter(recipientEmail, after.getCreatedAt(), after.getId(), limit);
+        return toCursorPage(notifications, pageSize);
+    }
+
+    /**
+     * pageSize + 1개 조회 결과를 한 페이지와 다음 커서로 변환
+     */
+    private CursorPageDTO<NotificationDTO> toCursorPage(List<NotificationEntity> notifications, int pageSize) {
+        String nextCursor = null;
+        if (notifications.size() > pageSize) {
+            notifications = notifications.subList(0, pageSize);
+            NotificationEntity last = notifications.get(notifications.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorPageDTO.of(toDTOs(notifications), nextCursor, pageSize);
+    }
+
+    /**
+     * 읽지 않은 알림 수 (메모리 카운터)
+     */
+    public long getUnreadCount(String recipientEmail) {
+        return unreadNotificationCounter.get(recipientEmail);
     }
 
     /**
-     * 사용자의 모든 알림 조회 (읽음/안읽음 모두)
+     * 알림 목록 DTO 변환 (actorName은 이름 캐시에서 한 번에 조회)
      */
-    public List<NotificationDTO> getAllNotifications(String recipientEmail) {
-        List<NotificationEntity> notifications = notificationRepository
-                .findByRecipientEmailOrderByCreatedAtDesc(recipientEmail);
+    private List<NotificationDTO> toDTOs(List<NotificationEntity> notifications) {
+        Map<String, String> actorNames = memberNameCache.getNames(notifications.stream()
+                .map(NotificationEntity::getActorEmail)
+                .collect(Collectors.toSet()));
 
         return notifications.stream()
                 .map(notification -> {
                     NotificationDTO dto = NotificationDTO.fromEntity(notification);
-                    // actorName 설정
-                    memberRepository.findByMemberEmail(notification.getActorEmail())
-                            .ifPresent(member -> dto.setActorName(member.getMemberName()));
+                    dto.setActorName(actorNames.get(notification.getActorEmail()));
                     return dto;
                 })
                 .collect(Collectors.toList());
     }
 
-
     /**
-     * 모든 알림 읽음 처리
+     * 모든 알림 읽음 처리 (UPDATE 1회)
+     *
+     * @param upToId 이 ID 이하의 알림만 읽음 처리 (null이면 전체)
+     * @return 읽음 처리된 알림 수
      */
-    public void markAllAsRead(String recipientEmail) {
-        List<NotificationEntity> notifications = notificationRepository
-                .findByRecipientEmailAndIsReadFalseOrderByCreatedAtDesc(recipientEmail);
-        notifications.forEach(NotificationEntity::markAsRead);
-        notificationRepository.saveAll(notifications);
+    public int markAllAsRead(String recipientEmail, Long upToId) {
+        int updated = notificationRepository.markAllAsRead(recipientEmail, upToId);
+        unreadNotificationCounter.add(recipientEmail, -updated);
         
         // 12-23 실시간으로 알림 수 업데이트 전송
         sendNotificationCount(recipientEmail);
+        return updated;
     }
     
     /**
@@ -146,15 +187,24 @@ public class NotificationService {
             NotificationDTO dto = NotificationDTO.fromEntity(notification);
             
             // actorName 설정
-            memberRepository.findByMemberEmail(notification.getActorEmail())
-                    .ifPresent(member -> dto.setActorName(member.getMemberName()));
-            
-            // WebSocket으로 알림 전송
+            dto.setActorName(memberNameCache.getName(notification.getActorEmail()));
+
+            publish(recipientEmail, dto);
+        } catch (Exception e) {
+            log.error("알림 전송 실패: recipient={}", recipientEmail, e);
+        }
+    }
+
+    /**
+     * WebSocket으로 알림 및 알림 수 전송
+     */
+    private void publish(String recipientEmail, NotificationDTO dto) {
+        try {
             // topic 경로는 사용자 이메일을 기반으로 함 (URL 인코딩 필요)
             String topic = "/topic/notifications/" + recipientEmail.replace("@", "_").replace(".", "_");
             messagingTemplate.convertAndSend(topic, dto);
             
-            log.debug("알림 전송 완료: recipient={}, type={}", recipientEmail, notification.getNotificationType());
+            log.debug("알림 전송 완료: recipient={}, type={}", recipientEmail, dto.getNotificationType());
             
             // 알림 수 업데이트 전송
             sendNotificationCount(recipientEmail);
@@ -166,12 +216,25 @@ public class NotificationService {
     /**
      * WebSocket을 통해 알림 수 전송
      * 12-23 실시간 알림 수 업데이트 기능 추가
+     * 알림 수 캐시는 커밋 이후 갱신되므로 트랜잭션 중이면 커밋 이후 전송
      */
     private void sendNotificationCount(String recipientEmail) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pushNotificationCount(recipientEmail);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pushNotificationCount(recipientEmail);
+            }
+        });
+    }
+
+    private void pushNotificationCount(String recipientEmail) {
         try {
-            long unreadCount = notificationRepository
-                    .findByRecipientEmailAndIsReadFalseOrderByCreatedAtDesc(recipientEmail)
-                    .size();
+            // 메모리 카운터 사용 (알림 목록을 조회하지 않음)
+            long unreadCount = unreadNotificationCounter.get(recipientEmail);
             
             String topic = "/topic/notifications/count/" + recipientEmail.replace("@", "_").replace(".", "_");
             messagingTemplate.convertAndSend(topic, unreadCount);
@@ -187,13 +250,15 @@ public class NotificationService {
      * 12-23 WebSocket을 통한 실시간 알림 수 업데이트 추가
      */
     public void markAsRead(Long notificationId) {
-        NotificationEntity notification = notificationRepository.findById(notificationId)
+        String recipientEmail = notificationRepository.findRecipientEmailById(notificationId)
                 .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
-        notification.markAsRead();
-        notificationRepository.save(notification);
+        // 조건부 UPDATE로 실제 읽음 처리된 경우에만 차감 (이미 읽었거나 동시 요청이 먼저 처리한 경우 제외)
+        if (notificationRepository.markAsRead(notificationId) > 0) {
+            unreadNotificationCounter.add(recipientEmail, -1);
+        }
         
         // 12-23 실시간으로 알림 수 업데이트 전송
-        sendNotificationCount(notification.getRecipientEmail());
+        sendNotificationCount(recipientEmail);
     }
 }
 
@@ -3,24 +3,29 @@ package kr.co.inhatc.inhatc.service;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.extern.slf4j.Slf4j;
 
+import kr.co.inhatc.inhatc.constants.AppConstants;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.dto.PostResponseDTO;
-import kr.co.inhatc.inhatc.entity.LikeEntity;
 import kr.co.inhatc.inhatc.entity.MemberEntity;
 import kr.co.inhatc.inhatc.entity.PostEntity;
 import kr.co.inhatc.inhatc.exception.CustomException;
@@ -28,6 +33,9 @@ import kr.co.inhatc.inhatc.exception.ErrorCode;
 import kr.co.inhatc.inhatc.repository.LikeRepository;
 import kr.co.inhatc.inhatc.repository.MemberRepository;
 import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.PostKeyView;
+import kr.co.inhatc.inhatc.repository.projection.PostListView;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
 
 @Service
 @Slf4j
@@ -37,7 +45,11 @@ public class PostService {
     private final MemberRepository memberRepository;
     private final LikeRepository likeRepository;
     private final NotificationService notificationService;
-    private final FollowService followService;
+    private final TimelineService timelineService;
+    private final PostViewCounter postViewCounter;
+    private final LikeCounterService likeCounterService;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
     
     @Value("${app.upload.posts-dir}")
     private String postsUploadDir;
@@ -47,12 +59,20 @@ public class PostService {
                        MemberRepository memberRepository, 
                        LikeRepository likeRepository,
                        @Lazy NotificationService notificationService,
-                       @Lazy FollowService followService) {
+                       TimelineService timelineService,
+                       PostViewCounter postViewCounter,
+                       LikeCounterService likeCounterService,
+                       TrendingService trendingService,
+                       TransactionTemplate transactionTemplate) {
         this.postRepository = postRepository;
         this.memberRepository = memberRepository;
         this.likeRepository = likeRepository;
         this.notificationService = notificationService;
-        this.followService = followService;
+        this.timelineService = timelineService;
+        this.postViewCounter = postViewCounter;
+        this.likeCounterService = likeCounterService;
+        this.trendingService = trendingService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -62,13 +82,13 @@ public class PostService {
         MemberEntity member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
         
-        // JOIN FETCH로 Comments를 한 번에 조회
-        List<PostEntity> posts = postRepository.findByMemberEmailWithComments(member.getMemberEmail());
+        // 댓글은 로딩하지 않고 게시글 컬럼 + 댓글 수만 조회
+        List<PostListView> posts = postRepository.findListViewsByMemberEmail(member.getMemberEmail());
 
         // 동일한 회원의 게시글이므로 Member는 한 번만 조회
-        return posts.stream()
-                .map(post -> PostResponseDTO.fromEntity(post, member))
-                .collect(Collectors.toList());
+        return withPendingCounts(posts.stream()
+                .map(post -> PostResponseDTO.fromView(post, member))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -86,162 +106,221 @@ public class PostService {
                 .map(MemberEntity::getMemberEmail)
                 .collect(Collectors.toList());
 
-        // JOIN FETCH로 Comments를 한 번에 조회
-        List<PostEntity> posts = postRepository.findByMemberEmailsWithComments(memberEmails);
+        // 댓글은 로딩하지 않고 게시글 컬럼 + 댓글 수만 조회
+        List<PostListView> posts = postRepository.findListViewsByMemberEmails(memberEmails);
 
         // Map으로 변환하여 O(1) 조회 가능하도록 최적화
         Map<String, MemberEntity> memberMap = members.stream()
                 .collect(Collectors.toMap(MemberEntity::getMemberEmail, member -> member));
 
-        return posts.stream()
-                .map(post -> PostResponseDTO.fromEntity(post, memberMap.get(post.getMemberEmail())))
-                .collect(Collectors.toList());
+        return withPendingCounts(posts.stream()
+                .map(post -> PostResponseDTO.fromView(post, memberMap.get(post.getMemberEmail())))
+                .collect(Collectors.toList()));
     }
 
     /**
      * ✅ 회원 이메일 기준으로 게시글 조회 (삭제되지 않은 것만, N+1 문제 해결)
      */
     public List<PostResponseDTO> findByMemberEmail(String memberEmail) {
-        // JOIN FETCH로 Comments를 한 번에 조회
-        List<PostEntity> posts = postRepository.findByMemberEmailWithComments(memberEmail);
+        // 댓글은 로딩하지 않고 게시글 컬럼 + 댓글 수만 조회
+        List<PostListView> posts = postRepository.findListViewsByMemberEmail(memberEmail);
         MemberEntity member = memberRepository.findByMemberEmail(memberEmail).orElse(null);
 
-        return posts.stream()
+        return withPendingCounts(posts.stream()
                 .filter(post -> post.getDeleteYn() == 'N') // 삭제되지 않은 게시글만
-                .map(post -> PostResponseDTO.fromEntity(post, member))
-                .collect(Collectors.toList());
+                .map(post -> PostResponseDTO.fromView(post, member))
+                .collect(Collectors.toList()));
     }
 
     /**
      * ✅ 팔로잉 중인 사용자들의 게시글 조회
+     * 미리 기록된 홈 타임라인에서 최신 게시글 ID 슬라이스만 읽어온 뒤 ID로 조회
      */
     public List<PostResponseDTO> findFollowingPosts(String memberEmail) {
-        // 팔로잉 중인 사용자 목록 가져오기
-        List<kr.co.inhatc.inhatc.dto.FollowDTO> followingList = followService.getFollowing(memberEmail, memberEmail);
-        
-        if (followingList.isEmpty()) {
+        List<Long> postIds = timelineService.getTimelinePostIds(memberEmail);
+        if (postIds.isEmpty()) {
             return new ArrayList<>();
         }
 
-        // 팔로잉 중인 사용자들의 이메일 수집
-        List<String> followingEmails = followingList.stream()
-                .map(follow -> follow.getFollowingEmail() != null ? follow.getFollowingEmail() : follow.getFollowerEmail())
-                .filter(email -> email != null)
-                .collect(Collectors.toList());
+        // 타임라인 순서(최신순) 유지, 삭제된 게시글은 제외
+        return toResponseDTOs(findListViewsInOrder(postIds));
+    }
 
-        // 본인 이메일도 추가 (자신의 게시글도 포함)
-        followingEmails.add(memberEmail);
+    /**
+     * ✅ 팔로잉 피드 조회 (커서 기반 페이징)
+     * 작성자별 최신 게시글 키를 k-way merge하여 한 페이지 분량만 조회
+     */
+    public CursorPageDTO<PostResponseDTO> findFollowingPostsByCursor(String memberEmail, String cursor, int size) {
+        int pageSize = AppConstants.Pagination.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 병합
+        List<PostKeyView> keys = timelineService.mergeFollowingKeys(memberEmail, after, pageSize + 1);
+        boolean hasNext = keys.size() > pageSize;
+        if (hasNext) {
+            keys = keys.subList(0, pageSize);
+        }
 
-        // JOIN FETCH로 Comments를 한 번에 조회
-        List<PostEntity> posts = postRepository.findByMemberEmailsWithComments(followingEmails);
+        List<Long> postIds = keys.stream().map(PostKeyView::getId).collect(Collectors.toList());
+        List<PostListView> posts = findListViewsInOrder(postIds);
 
-        // Member 정보를 Map으로 변환하여 O(1) 조회
-        List<MemberEntity> members = memberRepository.findByMemberEmailIn(followingEmails);
-        Map<String, MemberEntity> memberMap = members.stream()
-                .collect(Collectors.toMap(MemberEntity::getMemberEmail, member -> member));
+        String nextCursor = null;
+        if (hasNext) {
+            PostKeyView last = keys.get(keys.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedDate(), last.getId());
+        }
 
-        return posts.stream()
-                .filter(post -> post.getDeleteYn() == 'N') // 삭제되지 않은 게시글만
-                .sorted(Comparator.comparing(PostEntity::getCreatedDate, 
-                        Comparator.nullsLast(Comparator.reverseOrder()))) // 최신순 정렬 (null은 마지막)
-                .map(post -> PostResponseDTO.fromEntity(post, memberMap.get(post.getMemberEmail())))
-                .collect(Collectors.toList());
+        return CursorPageDTO.of(toResponseDTOs(posts), nextCursor, pageSize);
     }
 
     /**
      * ✅ 삭제 여부 기준 조회 (N+1 문제 해결)
      */
     public List<PostResponseDTO> findAllByDeleteYn(char deleteYn) {
-        // JOIN FETCH로 Comments를 한 번에 조회
-        List<PostEntity> posts = postRepository.findAllWithCommentsByDeleteYn(deleteYn);
-
-        // 모든 게시글의 memberEmail 수집
-        List<String> memberEmails = posts.stream()
-                .map(PostEntity::getMemberEmail)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 한 번의 쿼리로 모든 Member 조회 (N+1 방지)
-        List<MemberEntity> members = memberRepository.findByMemberEmailIn(memberEmails);
-        
-        // Map으로 변환하여 O(1) 조회 가능하도록 최적화
-        Map<String, MemberEntity> memberMap = members.stream()
-                .collect(Collectors.toMap(MemberEntity::getMemberEmail, member -> member));
-
-        return posts.stream()
-                .map(post -> PostResponseDTO.fromEntity(post, memberMap.get(post.getMemberEmail())))
-                .collect(Collectors.toList());
+        // 댓글은 로딩하지 않고 게시글 컬럼 + 댓글 수만 조회
+        return toResponseDTOs(postRepository.findListViewsByDeleteYn(deleteYn));
     }
 
     /**
      * ✅ 삭제되지 않은 게시글 전체 조회 (N+1 문제 해결)
      */
     public List<PostResponseDTO> findAll() {
-        // JOIN FETCH로 Comments를 한 번에 조회
-        List<PostEntity> posts = postRepository.findAllWithCommentsByDeleteYn('N');
-
-        // 모든 게시글의 memberEmail 수집
-        List<String> memberEmails = posts.stream()
-                .map(PostEntity::getMemberEmail)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 한 번의 쿼리로 모든 Member 조회 (N+1 방지)
-        List<MemberEntity> members = memberRepository.findByMemberEmailIn(memberEmails);
-        
-        // Map으로 변환하여 O(1) 조회 가능하도록 최적화
-        Map<String, MemberEntity> memberMap = members.stream()
-                .collect(Collectors.toMap(MemberEntity::getMemberEmail, member -> member));
-
-        return posts.stream()
-                .map(post -> PostResponseDTO.fromEntity(post, memberMap.get(post.getMemberEmail())))
-                .collect(Collectors.toList());
+        // 댓글은 로딩하지 않고 게시글 컬럼 + 댓글 수만 조회
+        return toResponseDTOs(postRepository.findListViewsByDeleteYn('N'));
     }
 
     /**
      * ✅ 게시글 단건 조회 + 조회수 증가
      */
-    @Transactional
     public PostResponseDTO findById(Long id) {
+        return findById(id, true);
+    }
+
+    /**
+     * ✅ 게시글 단건 조회
+     * 조회수는 PostViewCounter에 누적 후 일괄 반영되므로 읽기 전용 트랜잭션으로 조회
+     *
+     * @param countView 조회수 증가 여부 (이미지 조회, 작성자 확인 등 내부 조회는 false, 삭제된 게시글은 세지 않음)
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDTO findById(Long id, boolean countView) {
         PostEntity post = postRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.POSTS_NOT_FOUND));
 
-        post.increaseHits();
+        if (countView && post.getDeleteYn() == 'N') {
+            postViewCounter.increment(id);
+            trendingService.recordView(id);
+        }
 
         MemberEntity member = memberRepository.findByMemberEmail(post.getMemberEmail())
                 .orElse(null);
 
-        return PostResponseDTO.fromEntity(post, member);
+        return withPendingCounts(PostResponseDTO.fromEntity(post, member));
     }
 
     /**
-     * 좋아요 토글
+     * 좋아요 토글 (기존 이메일 기반 API 호환)
+     * 취소(DELETE)를 먼저 시도하고, 삭제된 행이 없으면 등록
      */
-    @Transactional
     public boolean toggleLove(Long postId, String email) {
-        PostEntity post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POSTS_NOT_FOUND));
-        MemberEntity user = memberRepository.findByMemberEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        Long memberId = findMemberIdByEmail(email);
+        if (unlike(postId, memberId)) {
+            return false;
+        }
+        like(postId, memberId, email);
+        return true;
+    }
+
+    /**
+     * 좋아요 등록 (멱등)
+     * 좋아요 행 등록과 좋아요 수 증감을 한 트랜잭션으로 처리하며, 이미 좋아요한 경우 아무것도 하지 않음
+     * 중복은 uk_like_post_member 제약으로 판단 (잠금 없음)
+     * - 동시 요청이 NOT EXISTS를 함께 통과하면 늦은 쪽 INSERT가 제약 위반으로 실패하고 트랜잭션 전체가 롤백됨
+     *   (INSERT가 첫 쓰기이므로 되돌릴 변경이 없으며, 이미 좋아요 상태로 처리)
+     * - 실제로 1행이 등록된 경우에만 좋아요 수 증가
+     * 인기 순위 반영과 알림 생성은 커밋 이후 트랜잭션 밖에서 처리 (실패해도 좋아요는 유지)
+     *
+     * @return 새로 등록되었으면 true, 이미 좋아요 상태였으면 false
+     * @throws CustomException 게시글이 없거나 삭제된 경우 (POSTS_NOT_FOUND)
+     */
+    public boolean like(Long postId, Long memberId, String email) {
+        Integer inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> {
+                int count = likeRepository.insertIfAbsent(postId, memberId, LocalDateTime.now());
+                if (count == 1) {
+                    likeCounterService.add(postId, 1);
+                }
+                return count;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 등록함 (uk_like_post_member)
+            inserted = 0;
+        }
+        if (inserted == null || inserted == 0) {
+            // 등록되지 않은 경우에만 게시글 존재 여부 확인 (일반적인 경로에는 추가 조회 없음)
+            if (!postRepository.existsByIdAndDeleteYn(postId, 'N')) {
+                throw new CustomException(ErrorCode.POSTS_NOT_FOUND);
+            }
+            return false;
+        }
+
+        trendingService.recordLike(postId);
 
-        Optional<LikeEntity> existingLike = likeRepository.findByPostAndUser(post, user);
-        if (existingLike.isPresent()) {
-            likeRepository.delete(existingLike.get());
-            post.decreaseLove(); // <- 여기 메서드 이름 변경
-        } else {
-            LikeEntity newLike = new LikeEntity(post, user);
-            likeRepository.save(newLike);
-            post.increaseLove(); // <- 여기 메서드 이름 변경
-            
-            // 좋아요 알림 생성
-            try {
-                notificationService.createLikeNotification(postId, email);
-            } catch (Exception e) {
-                // 알림 생성 실패해도 좋아요는 정상 처리
-                log.warn("알림 생성 실패: postId={}, email={}", postId, email, e);
+        // 좋아요 알림 생성
+        try {
+            notificationService.createLikeNotification(postId, email);
+        } catch (Exception e) {
+            // 알림 생성 실패해도 좋아요는 정상 처리
+            log.warn("알림 생성 실패: postId={}, email={}", postId, email, e);
+        }
+        return true;
+    }
+
+    /**
+     * 좋아요 취소 (멱등)
+     * 좋아요 행 삭제와 좋아요 수 증감을 한 트랜잭션으로 처리
+     *
+     * @return 실제로 취소되었으면 true, 좋아요 상태가 아니었으면 false
+     */
+    public boolean unlike(Long postId, Long memberId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            int count = likeRepository.deleteByPostIdAndMemberId(postId, memberId);
+            if (count > 0) {
+                likeCounterService.add(postId, -count);
             }
+            return count;
+        });
+        if (deleted == null || deleted == 0) {
+            return false;
+        }
+        trendingService.recordUnlike(postId);
+        return true;
+    }
+
+    /**
+     * 조회자의 좋아요 여부 표시 (페이지당 ID만 조회하는 쿼리 1회)
+     *
+     * @param viewerMemberId 조회자 회원 ID (로그인하지 않은 경우 null)
+     */
+    @Transactional(readOnly = true)
+    public void markLikedByViewer(List<PostResponseDTO> posts, Long viewerMemberId) {
+        if (viewerMemberId == null || posts.isEmpty()) {
+            return;
         }
-        return existingLike.isEmpty();
+
+        List<Long> postIds = posts.stream().map(PostResponseDTO::getId).collect(Collectors.toList());
+        Set<Long> likedPostIds = new HashSet<>(likeRepository.findLikedPostIds(viewerMemberId, postIds));
+        posts.forEach(post -> post.setLikedByViewer(likedPostIds.contains(post.getId())));
+    }
+
+    /**
+     * 이메일로 회원 ID 조회 (세션에 회원 ID가 없는 경우에만 사용)
+     */
+    public Long findMemberIdByEmail(String email) {
+        return memberRepository.findByMemberEmail(email)
+                .map(MemberEntity::getId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
     /**
@@ -263,6 +342,11 @@ public class PostService {
         // 또는 삭제 여부만 처리하고 싶으면 아래처럼 변경 가능
         post.setDeleteYn('Y');
         postRepository.save(post);
+
+        // 모든 홈 타임라인과 인기 게시글 순위에서 제거
+        timelineService.removePost(postId);
+        trendingService.remove(postId);
+        // 댓글은 그대로 보존 (삭제 여부만 처리하므로 게시글 복구 시 댓글도 함께 복구됨)
     }
 
     /**
@@ -283,7 +367,10 @@ public class PostService {
                 .createdDate(LocalDateTime.now()) // 명시적으로 생성 날짜 설정
                 .build();
 
-        postRepository.save(post);
+        PostEntity saved = postRepository.save(post);
+
+        // 팔로워 홈 타임라인에 fan-out
+        timelineService.fanOut(saved);
     }
 
     /**
@@ -306,7 +393,9 @@ public class PostService {
         Map<String, MemberEntity> memberMap = members.stream()
                 .collect(Collectors.toMap(MemberEntity::getMemberEmail, member -> member));
 
-        return postPage.map(post -> PostResponseDTO.fromEntity(post, memberMap.get(post.getMemberEmail())));
+        Page<PostResponseDTO> result = postPage.map(post -> PostResponseDTO.fromEntity(post, memberMap.get(post.getMemberEmail())));
+        withPendingCounts(result.getContent());
+        return result;
     }
 
     /**
@@ -317,7 +406,114 @@ public class PostService {
         Page<PostEntity> postPage = postRepository.findByMemberEmailOrderByIdDesc(memberEmail, pageable);
         MemberEntity member = memberRepository.findByMemberEmail(memberEmail).orElse(null);
 
-        return postPage.map(post -> PostResponseDTO.fromEntity(post, member));
+        Page<PostResponseDTO> result = postPage.map(post -> PostResponseDTO.fromEntity(post, member));
+        withPendingCounts(result.getContent());
+        return result;
+    }
+
+    /**
+     * ✅ 커서 기반 페이징: 삭제되지 않은 게시글 조회
+     * OFFSET/COUNT 없이 (createdDate, id) 키셋으로 다음 페이지를 조회
+     */
+    public CursorPageDTO<PostResponseDTO> findAllByCursor(String cursor, int size) {
+        int pageSize = AppConstants.Pagination.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostListView> posts = after == null
+                ? postRepository.findFeedFirstPage('N', limit)
+                : postRepository.findFeedPageAfter('N', after.getCreatedAt(), after.getId(), limit);
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostListView last = posts.get(posts.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedDate(), last.getId());
+        }
+
+        return CursorPageDTO.of(toResponseDTOs(posts), nextCursor, pageSize);
+    }
+
+    /**
+     * ✅ 인기 게시글 조회 (시간 감쇠 점수 순)
+     * 메모리의 상위 K개 게시글 ID만 읽고, 해당 게시글만 ID로 조회
+     */
+    public List<PostResponseDTO> findTrending(int size) {
+        List<Long> postIds = trendingService.topPostIds(AppConstants.Pagination.clampSize(size));
+        return toResponseDTOs(findListViewsInOrder(postIds));
+    }
+
+    /**
+     * 게시글 ID 목록 순서대로 목록 프로젝션 조회 (삭제된 게시글 제외)
+     */
+    private List<PostListView> findListViewsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PostListView> viewMap = postRepository.findListViewsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostListView::getId, view -> view));
+
+        return postIds.stream()
+                .map(viewMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 목록 프로젝션을 DTO로 변환 (작성자는 한 번의 쿼리로 조회)
+     */
+    private List<PostResponseDTO> toResponseDTOs(List<PostListView> posts) {
+        List<String> memberEmails = posts.stream()
+                .map(PostListView::getMemberEmail)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<String, MemberEntity> memberMap = memberEmails.isEmpty()
+                ? Map.of()
+                : memberRepository.findByMemberEmailIn(memberEmails).stream()
+                        .collect(Collectors.toMap(MemberEntity::getMemberEmail, member -> member));
+
+        return withPendingCounts(posts.stream()
+                .map(post -> PostResponseDTO.fromView(post, memberMap.get(post.getMemberEmail())))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수/좋아요 수를 더해 반환 (DB 값 + 미반영 누적값)
+     */
+    private PostResponseDTO withPendingCounts(PostResponseDTO dto) {
+        withPendingCounts(List.of(dto));
+        return dto;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수/좋아요 수를 더해 반환 (좋아요 샤드 합계는 한 번의 쿼리로 조회)
+     */
+    private List<PostResponseDTO> withPendingCounts(List<PostResponseDTO> dtos) {
+        if (dtos.isEmpty()) {
+            return dtos;
+        }
+
+        Map<Long, Long> loveDeltas = likeCounterService.pendingDeltas(
+                dtos.stream().map(PostResponseDTO::getId).collect(Collectors.toSet()));
+
+        for (PostResponseDTO dto : dtos) {
+            long pendingHits = postViewCounter.pendingHits(dto.getId());
+            if (pendingHits > 0) {
+                dto.setHits((int) (dto.getHits() + pendingHits));
+            }
+            long loveDelta = loveDeltas.getOrDefault(dto.getId(), 0L);
+            if (loveDelta != 0) {
+                dto.setLove((int) Math.max(0, dto.getLove() + loveDelta));
+            }
+        }
+        return dtos;
     }
 
 }
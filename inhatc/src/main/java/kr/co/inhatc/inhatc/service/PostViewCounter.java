@@ -0,0 +1,104 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ *
+ * - 조회 시에는 메모리의 게시글별 카운터만 원자적으로 증가시키고 DB 행 잠금을 잡지 않음
+ * - 주기적으로 누적된 조회수를 증가량별로 묶어 일괄 UPDATE (hits = hits + delta)
+ * - flush는 게시글 항목을 원자적으로 꺼내 반영 중(inFlight) 목록으로 옮긴 뒤 DB에 반영하므로
+ *   flush와 동시에 들어온 조회는 새 항목에 누적되어 다음 주기에 반영됨 (누락 없음)
+ * - 반영 실패 시 증가량을 되돌려 다음 주기에 재시도, 종료 시 마지막으로 한 번 반영
+ */
+@Service
+@Slf4j
+public class PostViewCounter {
+
+    // 아직 flush되지 않은 조회수
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    // flush가 꺼내 DB에 반영 중인 조회수 (반영 완료 전까지 pendingHits에 포함)
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    private final PostRepository postRepository;
+
+    public PostViewCounter(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (반영 중인 값 포함)
+     */
+    public long pendingHits(Long postId) {
+        return pending.getOrDefault(postId, 0L) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${app.post.view-flush-interval-ms:5000}",
+               initialDelayString = "${app.post.view-flush-interval-ms:5000}")
+    public void flush() {
+        // 증가량이 같은 게시글끼리 묶어 UPDATE 문 수를 줄임
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            long[] taken = new long[1];
+            // 꺼내기와 inFlight 이동을 한 번에 처리 (동시 increment는 꺼낸 뒤 새 항목에 누적)
+            pending.computeIfPresent(postId, (id, delta) -> {
+                taken[0] = delta;
+                inFlight.merge(id, delta, Long::sum);
+                return null;
+            });
+            if (taken[0] > 0) {
+                idsByDelta.computeIfAbsent(taken[0], d -> new ArrayList<>()).add(postId);
+            }
+        }
+
+        idsByDelta.forEach((delta, postIds) -> {
+            boolean applied = false;
+            try {
+                postRepository.addHits(postIds, (int) Math.min(delta, Integer.MAX_VALUE));
+                applied = true;
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}, delta={}", postIds.size(), delta, e);
+            }
+            for (Long postId : postIds) {
+                // 실패 시 pending에 먼저 되돌린 뒤 inFlight에서 빼서 pendingHits가 줄어드는 순간이 없게 함
+                if (!applied) {
+                    pending.merge(postId, delta, Long::sum);
+                }
+                inFlight.computeIfPresent(postId, (id, value) -> value - delta == 0 ? null : value - delta);
+            }
+        });
+
+        if (!idsByDelta.isEmpty()) {
+            log.debug("조회수 반영 완료: groups={}", idsByDelta.size());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,316 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.inhatc.inhatc.entity.PostEntity;
+import kr.co.inhatc.inhatc.entity.TimelineEntity;
+import kr.co.inhatc.inhatc.repository.FollowRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.TimelineRepository;
+import kr.co.inhatc.inhatc.repository.projection.PostKeyView;
+import kr.co.inhatc.inhatc.util.KWayMerge;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 홈 타임라인 서비스 (fan-out-on-write)
+ *
+ * - 게시글 작성 시 작성자의 팔로워 타임라인에 게시글 ID를 기록
+ * - 팔로워 수가 기준을 초과하는 사용자는 fan-out 하지 않고, 조회 시 병합 (merge-on-read)
+ *   대상 사용자 목록은 주기적으로 집계하여 메모리에 보관 (게시글 작성/조회마다 팔로워 수를 세지 않음)
+ *   목록에서 빠진 사용자는 다음 갱신 때까지 조회 시 병합을 유지한 뒤, fan-out 되지 않았던 게시글을 팔로워 타임라인에 백필
+ * - 재구성해도 비어 있는 타임라인은 메모리에 표시하여 조회마다 다시 재구성하지 않음 (최대 개수 LRU + TTL)
+ * - 커서 기반 팔로잉 피드는 작성자별 스트림을 k-way merge로 병합
+ * - 타임라인은 사용자당 최대 크기로 유지 (주기적으로 오래된 항목 정리)
+ */
+@Service
+@Slf4j
+public class TimelineService {
+
+    // 백필 시 cutoff가 없는 경우 사용하는 하한값
+    private static final LocalDateTime NO_CUTOFF = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final Comparator<PostKeyView> NEWEST_FIRST = Comparator
+            .comparing(PostKeyView::getCreatedDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(PostKeyView::getId, Comparator.reverseOrder());
+
+    private final TimelineRepository timelineRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+
+    // 팔로워 수가 기준을 초과하는 사용자 (refreshMergeOnReadAuthors 주기로 교체)
+    private volatile Set<String> mergeOnReadAuthors = Set.of();
+
+    // 목록에서 빠진 사용자 → 빠진 시각 (백필 전까지 조회 시 병합 유지)
+    private final Map<String, LocalDateTime> demotedAuthors = new ConcurrentHashMap<>();
+
+    // 재구성 결과 비어 있던 타임라인의 회원 → 표시 만료 시각
+    // 이후 fan-out/팔로우가 타임라인을 유지하므로 재구성 불필요, 접근 순서 LinkedHashMap으로 최대 개수 유지
+    private final Map<String, Instant> emptyTimelines = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+            return size() > emptyCacheMaxSize;
+        }
+    };
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Value("${app.timeline.max-size:500}")
+    private int maxSize;
+
+    @Value("${app.timeline.read-size:100}")
+    private int readSize;
+
+    @Value("${app.timeline.fanout-max-followers:1000}")
+    private long fanOutMaxFollowers;
+
+    @Value("${app.timeline.empty-cache.max-size:10000}")
+    private int emptyCacheMaxSize;
+
+    @Value("${app.timeline.empty-cache.ttl-seconds:600}")
+    private long emptyCacheTtlSeconds;
+
+    public TimelineService(TimelineRepository timelineRepository,
+                           FollowRepository followRepository,
+                           PostRepository postRepository) {
+        this.timelineRepository = timelineRepository;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 게시글 작성 시 타임라인 fan-out
+     * 본인 타임라인에는 항상 기록하고, 팔로워 타임라인은 한 번의 INSERT ... SELECT로 기록
+     */
+    @Transactional
+    public void fanOut(PostEntity post) {
+        String authorEmail = post.getMemberEmail();
+        timelineRepository.save(new TimelineEntity(authorEmail, post.getId(), authorEmail, post.getCreatedDate()));
+        unmarkEmpty(authorEmail);
+
+        if (mergeOnReadAuthors.contains(authorEmail)) {
+            // 팔로워가 많은 사용자는 조회 시 병합
+            log.debug("fan-out 생략: author={}, postId={}", authorEmail, post.getId());
+            return;
+        }
+
+        int inserted = timelineRepository.fanOutToFollowers(post.getId(), authorEmail, post.getCreatedDate());
+        log.debug("타임라인 fan-out 완료: author={}, postId={}, followers={}", authorEmail, post.getId(), inserted);
+    }
+
+    /**
+     * 게시글 삭제 시 모든 타임라인에서 제거
+     */
+    @Transactional
+    public void removePost(Long postId) {
+        timelineRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 팔로우 시 대상 사용자의 최근 게시글을 타임라인에 백필
+     */
+    @Transactional
+    public void onFollow(String followerEmail, String followingEmail) {
+        if (mergeOnReadAuthors.contains(followingEmail)) {
+            return; // 조회 시 병합되므로 백필 불필요
+        }
+        if (backfill(followerEmail, List.of(followingEmail)) > 0) {
+            unmarkEmpty(followerEmail);
+        }
+    }
+
+    /**
+     * 언팔로우 시 대상 사용자의 게시글을 타임라인에서 제거
+     */
+    @Transactional
+    public void onUnfollow(String followerEmail, String followingEmail) {
+        timelineRepository.deleteByMemberEmailAndAuthorEmail(followerEmail, followingEmail);
+    }
+
+    /**
+     * 타임라인 조회 (최신순 게시글 ID 목록, 최대 read-size개)
+     * 타임라인 슬라이스 + 팔로워가 많은 사용자(목록에서 빠진 뒤 백필 전인 사용자 포함)의 최근 게시글을 병합
+     * 백필 직후에는 같은 게시글이 두 스트림에 있을 수 있으므로 병합 중에 ID로 중복 제거
+     */
+    @Transactional
+    public List<Long> getTimelinePostIds(String memberEmail) {
+        if (!isMarkedEmpty(memberEmail) && !timelineRepository.existsByMemberEmail(memberEmail)) {
+            rebuild(memberEmail);
+        }
+
+        List<Iterator<PostKeyView>> streams = new ArrayList<>();
+        streams.add(timelineRepository.findSlice(memberEmail, PageRequest.of(0, readSize)).iterator());
+
+        // 팔로워가 많은 사용자의 게시글은 작성자별 스트림으로 병합
+        Set<String> candidates = new HashSet<>(mergeOnReadAuthors);
+        candidates.addAll(demotedAuthors.keySet());
+        if (!candidates.isEmpty()) {
+            for (String author : followRepository.findFollowingEmailsIn(memberEmail, candidates)) {
+                streams.add(authorStream(author, null, readSize));
+            }
+        }
+
+        return KWayMerge.merge(streams, NEWEST_FIRST, readSize, PostKeyView::getId).stream()
+                .map(PostKeyView::getId)
+                .toList();
+    }
+
+    /**
+     * 팔로잉 피드 페이지 키 조회 (커서 기반)
+     * 팔로잉 사용자(+ 본인)별로 최신 limit개 정렬 키만 인덱스로 읽고, 힙 기반 k-way merge로 limit개까지만 병합
+     *
+     * @param after 이전 페이지의 마지막 커서 (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public List<PostKeyView> mergeFollowingKeys(String memberEmail, KeysetCursor after, int limit) {
+        List<String> authors = new ArrayList<>(followRepository.findFollowingEmails(memberEmail));
+        authors.add(memberEmail);
+
+        List<Iterator<PostKeyView>> streams = authors.stream()
+                .distinct()
+                .map(author -> authorStream(author, after, limit))
+                .toList();
+        return KWayMerge.merge(streams, NEWEST_FIRST, limit);
+    }
+
+    /**
+     * 팔로워 수가 기준을 초과하는 사용자 목록 갱신 (기동 직후 1회 + 주기 실행)
+     *
+     * 목록에 있던 동안 작성된 게시글은 팔로워 타임라인에 없으므로, 목록에서 빠진 사용자는 바로 제외하지 않는다.
+     * - 빠진 시점부터 fan-out을 재개하고, 다음 갱신 때까지는 조회 시 병합도 유지
+     * - 다음 갱신에서 빠진 시각 이전의 최근 게시글(최대 maxSize개)을 팔로워 타임라인에 백필한 뒤 병합 대상에서 제외
+     *   (빠진 시각 이후 게시글은 fan-out으로 기록되므로 동시에 같은 행을 기록하지 않음)
+     * - 백필 전에 다시 목록에 들어오면 조회 시 병합되므로 백필하지 않음
+     */
+    @Scheduled(fixedDelayString = "${app.timeline.fanout-refresh-interval-ms:60000}")
+    @Transactional
+    public void refreshMergeOnReadAuthors() {
+        Set<String> current = Set.copyOf(followRepository.findEmailsWithFollowersOver(fanOutMaxFollowers));
+
+        // 이전 갱신에서 빠진 사용자의 게시글 백필 (다시 목록에 들어온 사용자는 제외만)
+        for (Map.Entry<String, LocalDateTime> demoted : Map.copyOf(demotedAuthors).entrySet()) {
+            String author = demoted.getKey();
+            if (!current.contains(author)) {
+                backfillFollowers(author, demoted.getValue());
+            }
+            demotedAuthors.remove(author);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (String author : mergeOnReadAuthors) {
+            if (!current.contains(author)) {
+                demotedAuthors.put(author, now);
+            }
+        }
+        mergeOnReadAuthors = current;
+    }
+
+    /**
+     * 타임라인 최대 크기 유지 (오래된 항목 정리)
+     */
+    @Scheduled(fixedDelayString = "${app.timeline.trim-interval-ms:600000}",
+               initialDelayString = "${app.timeline.trim-interval-ms:600000}")
+    @Transactional
+    public void trimTimelines() {
+        for (String memberEmail : timelineRepository.findOverflowingMembers(maxSize)) {
+            // maxSize번째 이후 첫 항목을 경계로 그보다 오래된 항목 삭제
+            List<PostKeyView> boundary = timelineRepository.findSlice(memberEmail, PageRequest.of(maxSize, 1));
+            if (boundary.isEmpty()) {
+                continue;
+            }
+            PostKeyView edge = boundary.get(0);
+            int deleted = timelineRepository.deleteOlderThan(memberEmail, edge.getCreatedDate(), edge.getId());
+            log.debug("타임라인 정리: member={}, deleted={}", memberEmail, deleted);
+        }
+    }
+
+    /**
+     * 타임라인이 없는 사용자의 타임라인 재구성 (팔로잉 + 본인 게시글)
+     */
+    private void rebuild(String memberEmail) {
+        List<String> authors = new ArrayList<>(followRepository.findFollowingEmails(memberEmail));
+        authors.add(memberEmail);
+        if (backfill(memberEmail, authors) == 0) {
+            synchronized (emptyTimelines) {
+                emptyTimelines.put(memberEmail, clock.instant().plus(Duration.ofSeconds(emptyCacheTtlSeconds)));
+            }
+        }
+    }
+
+    private boolean isMarkedEmpty(String memberEmail) {
+        synchronized (emptyTimelines) {
+            Instant expiresAt = emptyTimelines.get(memberEmail);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (clock.instant().isBefore(expiresAt)) {
+                return true;
+            }
+            emptyTimelines.remove(memberEmail);
+            return false;
+        }
+    }
+
+    private void unmarkEmpty(String memberEmail) {
+        synchronized (emptyTimelines) {
+            emptyTimelines.remove(memberEmail);
+        }
+    }
+
+    /**
+     * 작성자 1명의 정렬 키 스트림 (커서 이후 최대 limit개)
+     */
+    private Iterator<PostKeyView> authorStream(String authorEmail, KeysetCursor after, int limit) {
+        PageRequest top = PageRequest.of(0, limit);
+        List<PostKeyView> keys = after == null
+                ? postRepository.findRecentKeysByMemberEmail(authorEmail, top)
+                : postRepository.findKeysByMemberEmailBefore(authorEmail, after.getCreatedAt(), after.getId(), top);
+        return keys.iterator();
+    }
+
+    /**
+     * 작성자들의 최근 게시글 최대 maxSize개를 타임라인에 기록
+     *
+     * @return 기록된 항목 수
+     */
+    private int backfill(String memberEmail, List<String> authorEmails) {
+        // maxSize번째 게시글의 생성일시를 하한으로 사용하여 백필 범위 제한
+        List<PostKeyView> boundary = postRepository.findRecentKeysByMemberEmails(
+                authorEmails, PageRequest.of(maxSize - 1, 1));
+        LocalDateTime cutoff = boundary.isEmpty() ? NO_CUTOFF : boundary.get(0).getCreatedDate();
+
+        int inserted = timelineRepository.backfill(memberEmail, authorEmails, cutoff);
+        log.debug("타임라인 백필 완료: member={}, authors={}, inserted={}", memberEmail, authorEmails.size(), inserted);
+        return inserted;
+    }
+
+    /**
+     * 병합 대상에서 빠진 작성자의 until 이전 최근 게시글(최대 maxSize개)을 모든 팔로워 타임라인에 기록
+     */
+    private void backfillFollowers(String authorEmail, LocalDateTime until) {
+        List<PostKeyView> boundary = postRepository.findKeysByMemberEmailBefore(
+                authorEmail, until, 0L, PageRequest.of(maxSize - 1, 1));
+        LocalDateTime cutoff = boundary.isEmpty() ? NO_CUTOFF : boundary.get(0).getCreatedDate();
+
+        int inserted = timelineRepository.backfillFollowers(authorEmail, cutoff, until);
+        log.info("병합 대상 제외 작성자 백필 완료: author={}, inserted={}", authorEmail, inserted);
+    }
+}
@@ -0,0 +1,267 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.co.inhatc.inhatc.entity.TrendingScoreEntity;
+import kr.co.inhatc.inhatc.repository.TrendingScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 게시글 서비스 (시간 감쇠 점수 기반 top-K)
+ *
+ * - 조회/좋아요/댓글 이벤트마다 가중치를 더하고, 점수는 반감기(half-life)에 따라 지수적으로 감쇠
+ * - forward decay: 기준 시각(landmark) 이후 경과 시간만큼 가중치를 키워 더하므로 기존 점수를 매번 갱신할 필요 없음
+ * - 점수 순으로 정렬된 TreeSet을 유지하여 상위 K개를 O(K)로 조회 (post_entity 스캔 없음)
+ * - 조회는 게시글별 LongAdder에 잠금 없이 누적하고 짧은 주기로 모아서 순위에 반영 (조회마다 전역 잠금을 잡지 않음)
+ * - 주기적으로 trending_score_entity에 체크포인트를 저장하고 시작 시 복원
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    // landmark 이후 가중치 배율이 2^RESCALE_EXPONENT를 넘으면 전체 점수를 재조정 (double 오버플로 방지)
+    private static final double RESCALE_EXPONENT = 32;
+
+    private record Entry(Long postId, double score) {}
+
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::postId, Comparator.reverseOrder());
+
+    private final TrendingScoreRepository trendingScoreRepository;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(HIGHEST_FIRST);
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    private Clock clock = Clock.systemDefaultZone();
+    private Instant landmark = Instant.now();
+
+    @Value("${app.trending.half-life-minutes:360}")
+    private long halfLifeMinutes;
+
+    @Value("${app.trending.capacity:1000}")
+    private int capacity;
+
+    @Value("${app.trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${app.trending.weight.like:5}")
+    private double likeWeight;
+
+    @Value("${app.trending.weight.comment:3}")
+    private double commentWeight;
+
+    public TrendingService(TrendingScoreRepository trendingScoreRepository) {
+        this.trendingScoreRepository = trendingScoreRepository;
+    }
+
+    /**
+     * 조회 기록 (잠금 없이 누적, foldViews 주기에 순위 반영)
+     */
+    public void recordView(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public void recordLike(Long postId) {
+        record(postId, likeWeight);
+    }
+
+    public void recordUnlike(Long postId) {
+        record(postId, -likeWeight);
+    }
+
+    public void recordComment(Long postId) {
+        record(postId, commentWeight);
+    }
+
+    /**
+     * 게시글 삭제 시 순위에서 제거
+     */
+    public synchronized void remove(Long postId) {
+        pendingViews.remove(postId);
+        Entry entry = entries.remove(postId);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    /**
+     * 인기 게시글 ID 목록 (점수 내림차순, 최대 limit개)
+     */
+    public synchronized List<Long> topPostIds(int limit) {
+        List<Long> postIds = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Entry> it = ranking.iterator();
+        while (it.hasNext() && postIds.size() < limit) {
+            postIds.add(it.next().postId());
+        }
+        return postIds;
+    }
+
+    /**
+     * 누적된 조회 수를 한 번의 잠금으로 순위에 반영
+     * 이번 주기에 조회가 없던 게시글의 누적기는 제거하며,
+     * 제거 직전에 누적기를 얻은 조회는 누락될 수 있음 (순위 신호이므로 허용)
+     */
+    @Scheduled(fixedDelayString = "${app.trending.view-fold-interval-ms:1000}")
+    public void foldViews() {
+        Map<Long, Long> views = new HashMap<>();
+        pendingViews.forEach((postId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                views.put(postId, count);
+            } else {
+                pendingViews.remove(postId, adder);
+            }
+        });
+        if (views.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            Instant now = clock.instant();
+            rescaleIfNeeded(now);
+            double growth = growth(now);
+            views.forEach((postId, count) -> add(postId, viewWeight * count * growth));
+        }
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠가 적용된 점수 스냅샷을 체크포인트 테이블에 저장
+     */
+    @Scheduled(fixedDelayString = "${app.trending.checkpoint-interval-ms:300000}",
+               initialDelayString = "${app.trending.checkpoint-interval-ms:300000}")
+    @Transactional
+    public void checkpoint() {
+        Instant now = clock.instant();
+        LocalDateTime checkpointDate = LocalDateTime.ofInstant(now, ZoneId.systemDefault());
+
+        List<TrendingScoreEntity> snapshot = new ArrayList<>();
+        synchronized (this) {
+            double decay = growth(now);
+            for (Entry entry : ranking) {
+                snapshot.add(new TrendingScoreEntity(entry.postId(), entry.score() / decay, checkpointDate));
+            }
+        }
+
+        trendingScoreRepository.deleteAllInBatch();
+        trendingScoreRepository.saveAll(snapshot);
+        log.debug("인기 게시글 체크포인트 저장: {}개", snapshot.size());
+    }
+
+    /**
+     * 시작 시 마지막 체크포인트 복원 (체크포인트 이후 경과 시간만큼 감쇠 적용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        List<TrendingScoreEntity> saved = trendingScoreRepository.findAll();
+        Instant now = clock.instant();
+
+        synchronized (this) {
+            for (TrendingScoreEntity row : saved) {
+                Instant checkpointAt = row.getCheckpointDate().atZone(ZoneId.systemDefault()).toInstant();
+                // 체크포인트 시점의 점수 → 현재 시점의 점수 → landmark 기준 점수
+                double score = row.getScore() / halfLives(checkpointAt, now) * growth(now);
+                put(row.getPostId(), score);
+            }
+        }
+        log.info("인기 게시글 체크포인트 복원: {}개", saved.size());
+    }
+
+    /**
+     * 가중치를 landmark 기준으로 환산하여 누적 (점수가 0 이하가 되면 순위에서 제거)
+     */
+    private synchronized void record(Long postId, double weight) {
+        Instant now = clock.instant();
+        rescaleIfNeeded(now);
+        add(postId, weight * growth(now));
+    }
+
+    /**
+     * landmark 기준으로 환산된 점수를 더함 (호출자가 잠금을 보유)
+     */
+    private void add(Long postId, double delta) {
+        Entry old = entries.remove(postId);
+        if (old != null) {
+            ranking.remove(old);
+        }
+        double score = (old == null ? 0 : old.score()) + delta;
+        if (score > 0) {
+            put(postId, score);
+        }
+    }
+
+    private void put(Long postId, double score) {
+        Entry entry = new Entry(postId, score);
+        Entry previous = entries.put(postId, entry);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(entry);
+
+        // 최대 보관 개수를 넘으면 점수가 가장 낮은 게시글 제거
+        if (entries.size() > capacity) {
+            Entry lowest = ranking.pollLast();
+            entries.remove(lowest.postId());
+        }
+    }
+
+    /**
+     * landmark 이후 시간이 오래 지나 가중치 배율이 커지면 모든 점수를 현재 시각 기준으로 재조정
+     * (모든 점수에 같은 배율을 곱하므로 순위는 변하지 않음)
+     */
+    private void rescaleIfNeeded(Instant now) {
+        double exponent = Duration.between(landmark, now).toMillis() / (double) halfLife().toMillis();
+        if (exponent < RESCALE_EXPONENT) {
+            return;
+        }
+
+        double factor = Math.pow(2, -exponent);
+        List<Entry> rescaled = ranking.stream()
+                .map(entry -> new Entry(entry.postId(), entry.score() * factor))
+                .toList();
+        entries.clear();
+        ranking.clear();
+        rescaled.forEach(entry -> {
+            entries.put(entry.postId(), entry);
+            ranking.add(entry);
+        });
+        landmark = now;
+    }
+
+    /**
+     * landmark 이후 경과 시간에 대한 가중치 배율 (2^(경과 시간 / 반감기))
+     */
+    private double growth(Instant now) {
+        return halfLives(landmark, now);
+    }
+
+    private double halfLives(Instant from, Instant to) {
+        return Math.pow(2, Duration.between(from, to).toMillis() / (double) halfLife().toMillis());
+    }
+
+    private Duration halfLife() {
+        return Duration.ofMinutes(halfLifeMinutes);
+    }
+}
@@ -0,0 +1,93 @@
+package kr.co.inhatc.inhatc.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import kr.co.inhatc.inhatc.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 읽지 않은 알림 수 카운터
+ *
+ * - member_entity.unread_notification_count를 알림 생성(+1) / 읽음 처리(-n) 시 UPDATE로 증감
+ * - 메모리 캐시에 회원별 값을 보관하여 반복 조회 시 쿼리를 실행하지 않음 (변경이 없으면 컬럼 조회 1회)
+ * - 증감이 커밋되면 캐시된 값에 증감량을 더함 (캐시에 없으면 다음 조회 시 컬럼을 읽음)
+ *   커밋과 동시에 진행된 조회가 있으면 캐시 값이 잠시 어긋날 수 있으며, 보정 주기마다 캐시를 비워 바로잡음
+ * - 주기적으로 실제 읽지 않은 알림 수와 비교하여 컬럼을 보정하고 캐시를 비움
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounter {
+
+    private final ConcurrentHashMap<String, Long> counts = new ConcurrentHashMap<>();
+
+    private final MemberRepository memberRepository;
+
+    @Value("${app.notification.count-reconcile-batch-size:1000}")
+    private long batchSize;
+
+    public UnreadNotificationCounter(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * 읽지 않은 알림 수 (캐시에 없으면 컬럼 조회 후 저장)
+     * 조회 쿼리는 맵 잠금 밖에서 실행하여 같은 버킷의 다른 회원 조회/증감을 막지 않음
+     */
+    public long get(String recipientEmail) {
+        Long cached = counts.get(recipientEmail);
+        if (cached != null) {
+            return cached;
+        }
+        long loaded = memberRepository.findUnreadNotificationCount(recipientEmail).orElse(0L);
+        Long existing = counts.putIfAbsent(recipientEmail, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감 (현재 트랜잭션에서 UPDATE, 커밋 이후 캐시된 값에 반영)
+     */
+    public void add(String recipientEmail, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        memberRepository.addUnreadNotificationCount(recipientEmail, delta);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDelta(recipientEmail, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyDelta(recipientEmail, delta);
+            }
+        });
+    }
+
+    private void applyDelta(String recipientEmail, long delta) {
+        // 컬럼과 같이 음수가 되지 않도록 보정
+        counts.computeIfPresent(recipientEmail, (email, count) -> Math.max(0, count + delta));
+    }
+
+    /**
+     * 읽지 않은 알림 수 보정 (기동 직후 1회 + 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.notification.count-reconcile-interval-ms:3600000}", initialDelay = 30000)
+    public void reconcile() {
+        Long maxId = memberRepository.findMaxId();
+        int fixed = 0;
+        for (long from = 1; maxId != null && from <= maxId; from += batchSize) {
+            fixed += memberRepository.reconcileUnreadNotificationCounts(from, from + batchSize - 1);
+        }
+        // 보정 이후에는 다음 조회 시 컬럼 값을 다시 읽음
+        counts.clear();
+        if (fixed > 0) {
+            log.info("읽지 않은 알림 수 보정 완료: members={}", fixed);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package kr.co.inhatc.inhatc.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+
+/**
+ * 평면 댓글 목록을 계층 구조(댓글 → 답글 → 답글의 답글 ...)로 조립
+ *
+ * - 부모 댓글 ID로 인덱싱하여 한 번의 순회로 조립 (O(n))
+ * - 깊이 제한 없음, 단 maxDepth보다 깊은 답글은 maxDepth 위치의 답글 목록으로 접어서 표시
+ * - 부모 댓글이 목록에 없는 답글은 최상위 댓글로 취급 (원래 순서 유지)
+ */
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    /**
+     * @param comments 평면 댓글 목록 (작성 순서대로 정렬되어 있다고 가정, replies는 이 메서드가 채움)
+     * @param maxDepth 최대 표시 깊이 (최상위 댓글 = 0, 1 미만이면 1로 간주)
+     * @return 최상위 댓글 목록
+     */
+    public static List<CommentResponseDTO> build(List<CommentResponseDTO> comments, int maxDepth) {
+        int limit = Math.max(1, maxDepth);
+
+        Map<Long, CommentResponseDTO> byId = new HashMap<>(comments.size() * 2);
+        for (CommentResponseDTO comment : comments) {
+            comment.setReplies(new ArrayList<>());
+            byId.put(comment.getId(), comment);
+        }
+
+        // 댓글별 깊이와 답글을 붙일 대상(깊이 제한 시 조상)을 메모이제이션하여 각 댓글을 한 번만 계산
+        Map<Long, Integer> depths = new HashMap<>(comments.size() * 2);
+        Map<Long, CommentResponseDTO> containers = new HashMap<>(comments.size() * 2);
+        List<CommentResponseDTO> roots = new ArrayList<>();
+
+        for (CommentResponseDTO comment : comments) {
+            resolve(comment, byId, depths, containers, limit);
+            CommentResponseDTO container = containers.get(comment.getId());
+            if (container == null) {
+                roots.add(comment);
+            } else {
+                container.getReplies().add(comment);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 아직 계산되지 않은 조상들을 거슬러 올라가 깊이와 부착 대상을 채움 (재귀 없이 반복)
+     */
+    private static void resolve(CommentResponseDTO comment,
+                                Map<Long, CommentResponseDTO> byId,
+                                Map<Long, Integer> depths,
+                                Map<Long, CommentResponseDTO> containers,
+                                int maxDepth) {
+        List<CommentResponseDTO> chain = new ArrayList<>();
+        CommentResponseDTO current = comment;
+        while (current != null && !depths.containsKey(current.getId())) {
+            chain.add(current);
+            CommentResponseDTO parent = current.getParentCommentId() == null ? null : byId.get(current.getParentCommentId());
+            if (parent == null || chain.size() > byId.size()) {
+                break; // 최상위 댓글 (또는 순환 참조 방어)
+            }
+            current = parent;
+        }
+
+        // 가장 위 조상부터 아래로 내려오며 계산
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            CommentResponseDTO node = chain.get(i);
+            CommentResponseDTO parent = node.getParentCommentId() == null ? null : byId.get(node.getParentCommentId());
+            if (parent == null || !depths.containsKey(parent.getId())) {
+                depths.put(node.getId(), 0);
+                continue;
+            }
+
+            int depth = depths.get(parent.getId()) + 1;
+            depths.put(node.getId(), Math.min(depth, maxDepth));
+            // 최대 깊이를 넘으면 부모와 같은 목록(부모의 부착 대상)에 붙임
+            containers.put(node.getId(), depth <= maxDepth ? parent : containers.get(parent.getId()));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package kr.co.inhatc.inhatc.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 정렬된 여러 스트림을 힙으로 병합하는 k-way merge 유틸리티
+ *
+ * 각 스트림은 이미 같은 기준으로 정렬되어 있어야 하며, limit개가 채워지면 즉시 중단한다.
+ * 시간 복잡도: O(k + n * log k) (n: 소비한 항목 수, 중복이 없으면 limit), 메모리: O(k + limit)
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * 정렬된 스트림들을 병합하여 앞에서부터 최대 limit개 반환
+     *
+     * @param sources 정렬된 스트림 목록 (각 스트림은 order 기준 오름차순)
+     * @param order   병합 기준 (먼저 나와야 하는 항목이 작은 값)
+     * @param limit   최대 결과 수
+     */
+    public static <T> List<T> merge(List<? extends Iterator<T>> sources, Comparator<? super T> order, int limit) {
+        return merge(sources, order, limit, null);
+    }
+
+    /**
+     * 정렬된 스트림들을 병합하여 앞에서부터 최대 limit개 반환 (key가 같은 항목은 처음 나온 것만 포함)
+     * 여러 스트림에 같은 항목이 있어도 중복이 limit을 차지하지 않는다.
+     *
+     * @param key 중복 판단 키 (null이면 중복 제거하지 않음)
+     */
+    public static <T> List<T> merge(List<? extends Iterator<T>> sources, Comparator<? super T> order, int limit,
+                                    Function<? super T, ?> key) {
+        List<T> result = new ArrayList<>(Math.max(0, limit));
+        if (limit <= 0) {
+            return result;
+        }
+
+        PriorityQueue<Head<T>> heap = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> order.compare(a.value, b.value));
+        for (Iterator<T> source : sources) {
+            if (source.hasNext()) {
+                heap.add(new Head<>(source.next(), source));
+            }
+        }
+
+        Set<Object> seen = key == null ? null : new HashSet<>();
+        while (!heap.isEmpty() && result.size() < limit) {
+            Head<T> head = heap.poll();
+            if (seen == null || seen.add(key.apply(head.value))) {
+                result.add(head.value);
+            }
+            if (head.source.hasNext()) {
+                heap.add(new Head<>(head.source.next(), head.source));
+            }
+        }
+        return result;
+    }
+
+    private record Head<T>(T value, Iterator<T> source) {
+    }
+}
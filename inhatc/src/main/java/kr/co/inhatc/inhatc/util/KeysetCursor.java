@@ -0,0 +1,61 @@
+package kr.co.inhatc.inhatc.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import kr.co.inhatc.inhatc.exception.CustomException;
+import kr.co.inhatc.inhatc.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키셋(커서) 페이징용 커서
+ *
+ * (생성일시, ID) 쌍을 Base64 URL-safe 문자열로 인코딩하여 클라이언트에 불투명한 토큰으로 전달한다.
+ * 클라이언트는 토큰 내용을 해석하지 않고 다음 요청에 그대로 돌려주기만 하면 된다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 커서 인코딩
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 (비어있으면 첫 페이지를 의미하므로 null 반환)
+     *
+     * @throws CustomException 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package kr.co.inhatc.inhatc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+import kr.co.inhatc.inhatc.util.CommentTreeBuilder;
+
+/**
+ * 댓글 트리 조립 벤치마크 (기존 부모별 전체 재탐색 방식 vs CommentTreeBuilder)
+ *
+ * 단위 테스트에는 포함되지 않으며, mvn test-compile 후 IDE에서 main 메서드를 test 클래스패스로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int commentCount;
+
+    // 최상위 댓글 비율 (나머지는 앞선 댓글 중 하나에 대한 답글)
+    @Param({"0.3"})
+    private double rootRatio;
+
+    private List<CommentResponseDTO> comments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        comments = new ArrayList<>(commentCount);
+        for (long id = 1; id <= commentCount; id++) {
+            Long parentId = id == 1 || random.nextDouble() < rootRatio ? null : random.nextLong(1, id);
+            comments.add(CommentResponseDTO.builder().id(id).parentCommentId(parentId).build());
+        }
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> legacyRescan() {
+        // 기존 CommentService.getCommentsByPostId 방식: 부모마다 전체 목록 재탐색, 2단계까지만 조립
+        List<CommentResponseDTO> parents = comments.stream()
+                .filter(comment -> comment.getParentCommentId() == null)
+                .collect(Collectors.toList());
+
+        return parents.stream()
+                .map(parent -> {
+                    CommentResponseDTO dto = copy(parent);
+                    dto.setReplies(comments.stream()
+                            .filter(comment -> comment.getParentCommentId() != null
+                                    && comment.getParentCommentId().equals(parent.getId()))
+                            .map(this::copy)
+                            .collect(Collectors.toList()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> treeBuilder() {
+        // 기존 방식과 동일하게 엔티티 → DTO 변환 비용 포함
+        List<CommentResponseDTO> copies = comments.stream().map(this::copy).collect(Collectors.toList());
+        return CommentTreeBuilder.build(copies, 10);
+    }
+
+    private CommentResponseDTO copy(CommentResponseDTO comment) {
+        return CommentResponseDTO.builder().id(comment.getId()).parentCommentId(comment.getParentCommentId()).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CommentTreeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
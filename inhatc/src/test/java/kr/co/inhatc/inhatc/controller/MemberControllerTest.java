@@ -19,6 +19,7 @@ import kr.co.inhatc.inhatc.MemberController;
 import kr.co.inhatc.inhatc.config.SecurityConfig;
 import kr.co.inhatc.inhatc.config.TestSecurityConfig;
 import kr.co.inhatc.inhatc.dto.MemberDTO;
+import kr.co.inhatc.inhatc.service.CommentExportService;
 import kr.co.inhatc.inhatc.service.MemberService;
 
 @WebMvcTest(controllers = MemberController.class,
@@ -33,6 +34,9 @@ class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private CommentExportService commentExportService;
+
     private MemberDTO testMemberDTO;
 
     @BeforeEach
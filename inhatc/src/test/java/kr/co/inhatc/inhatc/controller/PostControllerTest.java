@@ -26,6 +26,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import kr.co.inhatc.inhatc.PostController;
 import kr.co.inhatc.inhatc.config.SecurityConfig;
 import kr.co.inhatc.inhatc.config.TestSecurityConfig;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.dto.PostResponseDTO;
 import kr.co.inhatc.inhatc.service.PostService;
 
@@ -77,6 +78,25 @@ class PostControllerTest {
         verify(postService, times(1)).findAll(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("커서 기반 게시글 조회 성공")
+    void getAllPostsByCursor_Success() throws Exception {
+        // given
+        CursorPageDTO<PostResponseDTO> cursorPage = CursorPageDTO.of(List.of(testPostDTO), "next-token", 20);
+        when(postService.findAllByCursor("", 20)).thenReturn(cursorPage);
+
+        // when & then
+        mockMvc.perform(get("/api/posts")
+                .param("cursor", "")
+                .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(postService, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     @DisplayName("게시글 ID로 조회 성공")
     void getPostById_Success() throws Exception {
@@ -141,5 +161,29 @@ class PostControllerTest {
 
         verify(postService, times(1)).delete(postId);
     }
-}
 
+    @Test
+    @DisplayName("좋아요 등록 - 세션의 회원 ID 사용")
+    void like_UsesSessionMemberId() throws Exception {
+        // given
+        session.setAttribute("loginMemberId", 7L);
+        when(postService.like(1L, 7L, "test@example.com")).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(put("/api/posts/1/likes").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.liked").value(true))
+                .andExpect(jsonPath("$.changed").value(true));
+
+        verify(postService, never()).findMemberIdByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 실패 - 로그인 필요")
+    void unlike_RequiresLogin() throws Exception {
+        mockMvc.perform(delete("/api/posts/1/likes"))
+                .andExpect(status().isUnauthorized());
+
+        verify(postService, never()).unlike(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,67 @@
+package kr.co.inhatc.inhatc.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import kr.co.inhatc.inhatc.entity.NotificationEntity;
+import kr.co.inhatc.inhatc.entity.PostEntity;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("NotificationRepository 테스트")
+class NotificationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        PostEntity post = entityManager.persist(PostEntity.builder()
+                .content("게시글").memberEmail("owner@test.com").deleteYn('N').build());
+        ids = List.of(
+                entityManager.persist(notification(post, "owner@test.com")).getId(),
+                entityManager.persist(notification(post, "owner@test.com")).getId(),
+                entityManager.persist(notification(post, "owner@test.com")).getId(),
+                entityManager.persist(notification(post, "other@test.com")).getId());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 - upToId 이하의 수신자 알림만 처리하고 이미 읽은 알림은 다시 세지 않음")
+    void markAllAsRead_RespectsUpToIdBound() {
+        // when
+        int first = notificationRepository.markAllAsRead("owner@test.com", ids.get(1));
+        int second = notificationRepository.markAllAsRead("owner@test.com", ids.get(1));
+        int rest = notificationRepository.markAllAsRead("owner@test.com", null);
+        entityManager.clear();
+
+        // then
+        assertEquals(2, first);
+        assertEquals(0, second);
+        assertEquals(1, rest);
+        assertFalse(notificationRepository.findById(ids.get(3)).orElseThrow().getIsRead());
+    }
+
+    private NotificationEntity notification(PostEntity post, String recipientEmail) {
+        return NotificationEntity.builder()
+                .post(post)
+                .notificationType("LIKE")
+                .actorEmail("actor@test.com")
+                .recipientEmail(recipientEmail)
+                .build();
+    }
+}
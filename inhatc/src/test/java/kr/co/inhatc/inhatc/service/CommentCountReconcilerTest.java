@@ -0,0 +1,105 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.inhatc.inhatc.repository.CommentRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CountDriftView;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentCountReconciler 단위 테스트")
+class CommentCountReconcilerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private CommentCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciler, "batchSize", 100L);
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 수는 ID 범위마다 한 번씩 보정")
+    void reconcileCommentCounts_ByIdRange() {
+        // given
+        when(postRepository.findMaxId()).thenReturn(250L);
+        when(postRepository.reconcileCommentCounts(anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        int fixed = reconciler.reconcileCommentCounts();
+
+        // then
+        assertEquals(3, fixed);
+        verify(postRepository).reconcileCommentCounts(1L, 100L);
+        verify(postRepository).reconcileCommentCounts(101L, 200L);
+        verify(postRepository).reconcileCommentCounts(201L, 300L);
+    }
+
+    @Test
+    @DisplayName("답글 수는 어긋난 댓글만 조회한 값 기준으로 갱신")
+    void reconcileReplyCounts_OnlyDrifted() {
+        // given
+        when(commentRepository.findMaxId()).thenReturn(50L);
+        when(commentRepository.findReplyCountDrift(1L, 100L)).thenReturn(List.of(drift(7L, 0L, 3L)));
+        when(commentRepository.reconcileReplyCount(7L, 0L, 3L)).thenReturn(1);
+
+        // when
+        int fixed = reconciler.reconcileReplyCounts();
+
+        // then
+        assertEquals(1, fixed);
+        verify(commentRepository).reconcileReplyCount(7L, 0L, 3L);
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 보정하지 않음")
+    void reconcile_Empty() {
+        // given
+        when(postRepository.findMaxId()).thenReturn(null);
+        when(commentRepository.findMaxId()).thenReturn(null);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(postRepository, never()).reconcileCommentCounts(anyLong(), anyLong());
+        verify(commentRepository, never()).findReplyCountDrift(anyLong(), anyLong());
+    }
+
+    private static CountDriftView drift(Long id, Long stored, Long actual) {
+        return new CountDriftView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getStoredCount() {
+                return stored;
+            }
+
+            @Override
+            public Long getActualCount() {
+                return actual;
+            }
+        };
+    }
+}
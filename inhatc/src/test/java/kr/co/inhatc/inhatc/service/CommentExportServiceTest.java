@@ -0,0 +1,60 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import kr.co.inhatc.inhatc.dto.CommentExportDTO;
+import kr.co.inhatc.inhatc.repository.CommentRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentExportService 단위 테스트")
+class CommentExportServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("댓글을 한 줄에 하나씩 NDJSON으로 기록하고 스트림을 닫음")
+    void exportByMemberEmail_WritesNdjson() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CommentExportService service = new CommentExportService(commentRepository, objectMapper);
+
+        AtomicBoolean closed = new AtomicBoolean();
+        LocalDateTime createdDate = LocalDateTime.of(2026, 1, 1, 12, 0);
+        when(commentRepository.streamExportByMemberEmail("test@example.com")).thenReturn(Stream.of(
+                new CommentExportDTO(1L, 10L, null, "첫 댓글", createdDate),
+                new CommentExportDTO(2L, 10L, 1L, "답글", createdDate))
+                .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = service.exportByMemberEmail("test@example.com", out);
+
+        // then
+        assertEquals(2, count);
+        assertTrue(closed.get());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"postId\":10,\"parentCommentId\":null,\"comment\":\"첫 댓글\",\"createdDate\":\"2026-01-01T12:00:00\"}", lines[0]);
+        assertEquals(1L, objectMapper.readTree(lines[1]).get("parentCommentId").asLong());
+    }
+}
@@ -0,0 +1,99 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import kr.co.inhatc.inhatc.repository.CommentRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CommentNodeView;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentPurgeService 단위 테스트")
+class CommentPurgeServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CommentPurgeService commentPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentPurgeService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("하위 트리 삭제 - 깊은 답글부터 깊이별 배치로 삭제하고 카운터 차감")
+    void deleteSubtree_DeepestFirstByDepth() {
+        // given: 10 ─ 11 ─ (12, 13, 14)
+        when(commentRepository.findSubtreeNodes(10L)).thenReturn(List.of(
+                node(12L, 2), node(13L, 2), node(14L, 2), node(11L, 1), node(10L, 0)));
+        when(commentRepository.deleteByIdIn(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        // when
+        int deleted = commentPurgeService.deleteSubtree(1L, 10L, 5L);
+
+        // then
+        assertEquals(5, deleted);
+        InOrder inOrder = inOrder(commentRepository);
+        inOrder.verify(commentRepository).deleteByIdIn(List.of(12L, 13L));
+        inOrder.verify(commentRepository).deleteByIdIn(List.of(14L));
+        inOrder.verify(commentRepository).deleteByIdIn(List.of(11L));
+        inOrder.verify(commentRepository).deleteByIdIn(List.of(10L));
+        verify(postRepository).addCommentCount(1L, -2L);
+        verify(postRepository, times(3)).addCommentCount(1L, -1L);
+        verify(commentRepository, times(1)).addReplyCount(5L, -1L);
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    @DisplayName("하위 트리 삭제 - 이미 삭제된 행은 카운터에서 차감하지 않음")
+    void deleteSubtree_DecrementsByAffectedRows() {
+        // given: 다른 요청이 12를 먼저 삭제
+        when(commentRepository.findSubtreeNodes(10L)).thenReturn(List.of(node(12L, 1), node(13L, 1), node(10L, 0)));
+        when(commentRepository.deleteByIdIn(List.of(12L, 13L))).thenReturn(1);
+        when(commentRepository.deleteByIdIn(List.of(10L))).thenReturn(0);
+
+        // when
+        int deleted = commentPurgeService.deleteSubtree(1L, 10L, 5L);
+
+        // then
+        assertEquals(1, deleted);
+        verify(postRepository, times(1)).addCommentCount(1L, -1L);
+        verify(commentRepository, never()).addReplyCount(anyLong(), anyLong());
+    }
+
+    private static CommentNodeView node(Long id, int depth) {
+        return new CommentNodeView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getDepth() {
+                return depth;
+            }
+        };
+    }
+}
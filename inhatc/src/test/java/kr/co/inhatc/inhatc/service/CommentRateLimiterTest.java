@@ -0,0 +1,93 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.inhatc.inhatc.exception.ErrorCode;
+import kr.co.inhatc.inhatc.exception.RateLimitExceededException;
+
+@DisplayName("CommentRateLimiter 단위 테스트")
+class CommentRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentRateLimiter limiter;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 게시글당 2개(분당 6개 충전 = 10초에 1개), 회원 전체 3개(분당 6개 충전)
+        limiter = new CommentRateLimiter(meterRegistry, 2, 6, 3, 6);
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        setNow(now);
+    }
+
+    @Test
+    @DisplayName("게시글 버킷이 비면 429와 Retry-After 초를 반환하고, 시간이 지나면 다시 허용")
+    void acquire_PostBucketExhausted() {
+        // given
+        limiter.acquire("user@test.com", 1L);
+        limiter.acquire("user@test.com", 1L);
+
+        // when
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire("user@test.com", 1L));
+
+        // then
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, e.getErrorCode());
+        assertEquals(10, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("comment.rate.limit.rejected", "scope", "post").count());
+
+        setNow(now.plus(Duration.ofSeconds(10)));
+        assertDoesNotThrow(() -> limiter.acquire("user@test.com", 1L));
+    }
+
+    @Test
+    @DisplayName("회원 전체 한도를 넘으면 다른 게시글도 거절하고 게시글 토큰은 되돌림")
+    void acquire_MemberBucketExhausted() {
+        // given
+        limiter.acquire("user@test.com", 1L);
+        limiter.acquire("user@test.com", 2L);
+        limiter.acquire("user@test.com", 3L);
+
+        // when
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire("user@test.com", 4L));
+
+        // then
+        assertEquals(1.0, meterRegistry.counter("comment.rate.limit.rejected", "scope", "member").count());
+        // 회원 버킷에 토큰 1개가 차면 게시글 4에는 되돌려 받은 토큰으로 작성 가능
+        setNow(now.plus(Duration.ofSeconds(10)));
+        assertDoesNotThrow(() -> limiter.acquire("user@test.com", 4L));
+        // 다른 회원은 영향 없음
+        assertDoesNotThrow(() -> limiter.acquire("other@test.com", 1L));
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 정리")
+    void evictIdleBuckets() {
+        // given
+        limiter.acquire("user@test.com", 1L);
+        setNow(now.plus(Duration.ofSeconds(15)));
+        limiter.acquire("other@test.com", 1L);
+
+        // when
+        limiter.evictIdleBuckets();
+
+        // then
+        assertEquals(2, limiter.size());
+    }
+
+    private void setNow(Instant instant) {
+        ReflectionTestUtils.setField(limiter, "clock", Clock.fixed(instant, ZoneId.of("UTC")));
+    }
+}
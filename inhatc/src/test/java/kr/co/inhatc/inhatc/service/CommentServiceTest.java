@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,18 +17,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import kr.co.inhatc.inhatc.dto.CommentRequestDTO;
 import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.entity.CommentEntity;
 import kr.co.inhatc.inhatc.entity.MemberEntity;
 import kr.co.inhatc.inhatc.entity.PostEntity;
+import kr.co.inhatc.inhatc.exception.CustomException;
+import kr.co.inhatc.inhatc.exception.ErrorCode;
 import kr.co.inhatc.inhatc.repository.CommentRepository;
-import kr.co.inhatc.inhatc.repository.MemberRepository;
 import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.CommentPageView;
+import kr.co.inhatc.inhatc.repository.projection.CommentPathView;
+import kr.co.inhatc.inhatc.repository.projection.CommentWriteView;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CommentService 단위 테스트")
@@ -36,15 +42,21 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
-    @Mock
-    private MemberRepository memberRepository;
-
     @Mock
     private PostRepository postRepository;
 
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private CommentThreadCache commentThreadCache;
+
+    @Mock
+    private CommentPurgeService commentPurgeService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -91,6 +103,8 @@ class CommentServiceTest {
         comments.add(testComment);
 
         when(commentRepository.findByPostIdWithWriter(postId)).thenReturn(comments);
+        when(commentThreadCache.get(eq(postId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<CommentResponseDTO>>>getArgument(1).get());
 
         // when
         List<CommentResponseDTO> result = commentService.getCommentsByPostId(postId);
@@ -102,25 +116,105 @@ class CommentServiceTest {
     }
 
     @Test
-    @DisplayName("페이징으로 댓글 조회 성공")
+    @DisplayName("페이징으로 댓글 조회 성공 - 프로젝션 한 번으로 내용과 전체 개수 조회")
     void getCommentsByPostId_WithPaging() {
         // given
         Long postId = 1L;
-        Pageable pageable = PageRequest.of(0, 10);
-        List<CommentEntity> comments = new ArrayList<>();
-        comments.add(testComment);
-        Page<CommentEntity> commentPage = new PageImpl<>(comments, pageable, 1);
+        Pageable pageable = PageRequest.of(0, 1);
+        CommentPageView row = mock(CommentPageView.class);
+        when(row.getId()).thenReturn(10L);
+        when(row.getPostId()).thenReturn(postId);
+        when(row.getWriterEmail()).thenReturn("test@test.com");
+        when(row.getTotalCount()).thenReturn(3L);
 
-        when(commentRepository.findByPostIdOrderByCreateDateDesc(postId, pageable))
-                .thenReturn(commentPage);
+        when(commentRepository.findPageByPostId(postId, pageable)).thenReturn(List.of(row));
 
         // when
         Page<CommentResponseDTO> result = commentService.getCommentsByPostId(postId, pageable);
 
         // then
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        verify(commentRepository, times(1)).findByPostIdOrderByCreateDateDesc(postId, pageable);
+        assertEquals(3, result.getTotalElements());
+        assertEquals(10L, result.getContent().get(0).getId());
+        assertEquals("/static/test@test.com/profile.png", result.getContent().get(0).getWriterProfile());
+        verify(commentRepository, never()).countByPostId(any());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 조회 - 답글 미리보기와 남은 답글 커서 제공")
+    void getThreadsByCursor_AttachesReplyPreview() {
+        // given
+        Long postId = 1L;
+        CommentEntity reply = CommentEntity.builder()
+                .comment("답글")
+                .post(testPost)
+                .writer(testMember)
+                .parentComment(testComment)
+                .build();
+        setId(reply, 2L);
+        testComment.setReplyCount(5L);
+
+        when(commentRepository.findRootsFirstPage(eq(postId), any(Pageable.class))).thenReturn(List.of(testComment));
+        when(commentRepository.findReplyPreviewIds(List.of(1L), 1L)).thenReturn(List.of(2L));
+        when(commentRepository.findWithWriterByIdIn(List.of(2L))).thenReturn(List.of(reply));
+
+        // when
+        CursorPageDTO<CommentResponseDTO> result = commentService.getThreadsByCursor(postId, null, 20, 1);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        CommentResponseDTO thread = result.getContent().get(0);
+        assertEquals(5L, thread.getReplyCount());
+        assertEquals(1, thread.getReplies().size());
+        assertEquals(0L, thread.getReplies().get(0).getReplyCount());
+        assertEquals(KeysetCursor.encode(reply.getCreateDate(), 2L), thread.getRepliesNextCursor());
+    }
+
+    @Test
+    @DisplayName("답글 조회 - 다음 페이지가 있으면 커서 반환")
+    void getRepliesByCursor_ReturnsNextCursor() {
+        // given
+        CommentEntity first = CommentEntity.builder().comment("답글1").post(testPost).writer(testMember).parentComment(testComment).build();
+        CommentEntity second = CommentEntity.builder().comment("답글2").post(testPost).writer(testMember).parentComment(testComment).build();
+        setId(first, 2L);
+        setId(second, 3L);
+
+        when(commentRepository.findRepliesFirstPage(eq(1L), eq(1L), any(Pageable.class))).thenReturn(List.of(first, second));
+
+        // when
+        CursorPageDTO<CommentResponseDTO> result = commentService.getRepliesByCursor(1L, 1L, null, 1);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(KeysetCursor.encode(first.getCreateDate(), 2L), result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("하위 트리 조회 - 경로 접두사로 한 번에 조회")
+    void getSubtree_ByPathPrefix() {
+        // given
+        testComment.assignPath(null);
+        CommentEntity reply = CommentEntity.builder()
+                .comment("답글")
+                .post(testPost)
+                .writer(testMember)
+                .parentComment(testComment)
+                .build();
+        setId(reply, 2L);
+        reply.assignPath(testComment.getPath());
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment));
+        when(commentRepository.findByPathPrefix(1L, "0000000001/%")).thenReturn(List.of(testComment, reply));
+
+        // when
+        List<CommentResponseDTO> result = commentService.getSubtree(1L, 1L);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(0, result.get(0).getDepth());
+        assertEquals(1, result.get(1).getDepth());
+        assertEquals("0000000001/0000000002/", reply.getPath());
     }
 
     @Test
@@ -133,10 +227,10 @@ class CommentServiceTest {
                 .article(1L)
                 .build();
 
-        when(memberRepository.findByMemberEmail("test@example.com"))
-                .thenReturn(Optional.of(testMember));
-        when(postRepository.findById(1L))
-                .thenReturn(Optional.of(testPost));
+        CommentWriteView context = writeContext(null);
+        when(commentRepository.findWriteContext(1L, "test@example.com", null))
+                .thenReturn(Optional.of(context));
+        when(postRepository.getReferenceById(1L)).thenReturn(testPost);
         when(commentRepository.save(any(CommentEntity.class)))
                 .thenReturn(testComment);
 
@@ -145,9 +239,93 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
-        verify(memberRepository, times(1)).findByMemberEmail("test@example.com");
-        verify(postRepository, times(1)).findById(1L);
+        assertEquals("테스트 사용자", result.getWriterName());
         verify(commentRepository, times(1)).save(any(CommentEntity.class));
+        verify(notificationService, times(1)).createCommentNotification(context);
+        verify(postRepository, times(1)).addCommentCount(1L, 1L);
+        verify(commentRepository, never()).addReplyCount(anyLong(), anyLong());
+        verify(commentThreadCache, times(1)).invalidate(1L);
+        verify(trendingService, times(1)).recordComment(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 실패 - 부모 댓글이 다른 게시글에 속함")
+    void addComment_ParentInOtherPost() {
+        // given
+        CommentRequestDTO requestDTO = CommentRequestDTO.builder()
+                .comment("답글")
+                .user("test@example.com")
+                .article(1L)
+                .parentCommentId(5L)
+                .build();
+
+        CommentWriteView context = writeContext(2L);
+        when(commentRepository.findWriteContext(1L, "test@example.com", 5L))
+                .thenReturn(Optional.of(context));
+
+        // when & then
+        RuntimeException e = assertThrows(RuntimeException.class, () -> commentService.addComment(requestDTO));
+        assertEquals("부모 댓글과 게시글이 일치하지 않습니다.", e.getMessage());
+        verify(commentRepository, never()).save(any(CommentEntity.class));
+    }
+
+    @Test
+    @DisplayName("답글 작성 - 부모 경로가 아직 없으면 조상 경로를 채우고 답글도 바로 경로를 가짐")
+    void addComment_ResolvesMissingParentPath() {
+        // given: 5번(최상위, 경로 없음) ← 7번(부모, 경로 없음)
+        CommentRequestDTO requestDTO = CommentRequestDTO.builder()
+                .comment("답글")
+                .user("test@example.com")
+                .article(1L)
+                .parentCommentId(7L)
+                .build();
+
+        CommentWriteView context = writeContext(1L);
+        when(commentRepository.findWriteContext(1L, "test@example.com", 7L)).thenReturn(Optional.of(context));
+        List<CommentPathView> ancestors = List.of(pathView(5L, null), pathView(7L, null));
+        when(commentRepository.findUnpathedAncestors(7L)).thenReturn(ancestors);
+        when(commentRepository.getReferenceById(7L)).thenReturn(testComment);
+        when(postRepository.getReferenceById(1L)).thenReturn(testPost);
+        CommentEntity reply = CommentEntity.builder().comment("답글").post(testPost).writer(testMember).parentComment(testComment).build();
+        setId(reply, 9L);
+        when(commentRepository.save(any(CommentEntity.class))).thenReturn(reply);
+
+        // when
+        commentService.addComment(requestDTO);
+
+        // then
+        verify(commentRepository).assignPathIfAbsent(5L, "0000000005/", 0);
+        verify(commentRepository).assignPathIfAbsent(7L, "0000000005/0000000007/", 1);
+        assertEquals("0000000005/0000000007/0000000009/", reply.getPath());
+        assertEquals(2, reply.getDepth());
+    }
+
+    @Test
+    @DisplayName("답글 작성 실패 - 부모가 저장 가능한 최대 깊이이면 COMMENT_DEPTH_EXCEEDED")
+    void addComment_DepthExceeded() {
+        // given
+        CommentRequestDTO requestDTO = CommentRequestDTO.builder()
+                .comment("답글")
+                .user("test@example.com")
+                .article(1L)
+                .parentCommentId(7L)
+                .build();
+
+        CommentWriteView context = writeContext(1L);
+        when(context.getParentPath()).thenReturn("0000000001/".repeat(CommentEntity.MAX_DEPTH + 1));
+        when(commentRepository.findWriteContext(1L, "test@example.com", 7L)).thenReturn(Optional.of(context));
+
+        // when & then
+        CustomException e = assertThrows(CustomException.class, () -> commentService.addComment(requestDTO));
+        assertEquals(ErrorCode.COMMENT_DEPTH_EXCEEDED, e.getErrorCode());
+        verify(commentRepository, never()).save(any(CommentEntity.class));
+    }
+
+    @Test
+    @DisplayName("경로 세그먼트 - 10자리를 넘는 ID는 거부")
+    void pathSegment_RejectsIdsWiderThanSegment() {
+        assertEquals("9999999999/", CommentEntity.pathSegment(CommentEntity.PATH_MAX_ID));
+        assertThrows(IllegalStateException.class, () -> CommentEntity.pathSegment(CommentEntity.PATH_MAX_ID + 1));
     }
 
     @Test
@@ -185,11 +363,49 @@ class CommentServiceTest {
                 .thenReturn(Optional.of(testComment));
 
         // when
-        commentService.deleteComment(postId, commentId);
+        commentService.deleteComment(postId, commentId, "test@example.com");
 
         // then
         verify(commentRepository, times(1)).findById(commentId);
-        verify(commentRepository, times(1)).delete(testComment);
+        verify(commentPurgeService, times(1)).deleteSubtree(postId, commentId, null);
+        verify(commentThreadCache, times(1)).invalidate(postId);
     }
-}
 
+    @Test
+    @DisplayName("댓글 삭제 실패 - 작성자가 아니면 삭제하지 않음")
+    void deleteComment_NotWriter() {
+        // given
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(testComment));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> commentService.deleteComment(1L, 1L, "other@example.com"));
+        verify(commentPurgeService, never()).deleteSubtree(anyLong(), anyLong(), any());
+    }
+
+    private static void setId(CommentEntity comment, Long id) {
+        try {
+            java.lang.reflect.Field idField = CommentEntity.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(comment, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CommentWriteView writeContext(Long parentPostId) {
+        CommentWriteView context = mock(CommentWriteView.class);
+        lenient().when(context.getPostId()).thenReturn(1L);
+        lenient().when(context.getPostDeleteYn()).thenReturn('N');
+        lenient().when(context.getWriterEmail()).thenReturn("test@example.com");
+        lenient().when(context.getWriterName()).thenReturn("테스트 사용자");
+        lenient().when(context.getParentPostId()).thenReturn(parentPostId);
+        return context;
+    }
+
+    private CommentPathView pathView(Long id, String path) {
+        CommentPathView view = mock(CommentPathView.class);
+        when(view.getId()).thenReturn(id);
+        lenient().when(view.getPath()).thenReturn(path);
+        return view;
+    }
+}
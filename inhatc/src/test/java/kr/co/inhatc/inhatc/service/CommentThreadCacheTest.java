@@ -0,0 +1,119 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+
+@DisplayName("CommentThreadCache 단위 테스트")
+class CommentThreadCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentThreadCache cache;
+    private AtomicInteger loads;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CommentThreadCache(meterRegistry, 2, 60);
+        loads = new AtomicInteger();
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        setNow(now);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환하고 적중/미적중 지표 기록")
+    void get_HitAfterMiss() {
+        // when
+        cache.get(1L, this::load);
+        List<CommentResponseDTO> second = cache.get(1L, this::load);
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(1, second.size());
+        assertEquals(1.0, meterRegistry.counter("comment.thread.cache.requests", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("comment.thread.cache.requests", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    void get_ReloadsAfterTtl() {
+        // given
+        cache.get(1L, this::load);
+
+        // when
+        setNow(now.plus(Duration.ofSeconds(61)));
+        cache.get(1L, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 게시글부터 제거")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+
+        // when
+        cache.get(3L, this::load);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // then: 1은 적중, 2는 제거되어 다시 조회
+        assertEquals(2, cache.size());
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 결과를 저장하지 않음")
+    void get_SkipsStoreWhenInvalidatedDuringLoad() {
+        // when
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load();
+        });
+        cache.get(1L, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 무효화는 진행 중인 조회 결과 저장을 막지 않음")
+    void get_StoresWhenOtherPostInvalidatedDuringLoad() {
+        // when
+        cache.get(1L, () -> {
+            cache.invalidate(2L);
+            return load();
+        });
+        cache.get(1L, this::load);
+
+        // then
+        assertEquals(1, loads.get());
+    }
+
+    private List<CommentResponseDTO> load() {
+        loads.incrementAndGet();
+        return List.of(new CommentResponseDTO());
+    }
+
+    private void setNow(Instant instant) {
+        ReflectionTestUtils.setField(cache, "clock", Clock.fixed(instant, ZoneId.of("UTC")));
+    }
+}
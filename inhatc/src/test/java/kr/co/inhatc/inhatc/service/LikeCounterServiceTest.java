@@ -0,0 +1,78 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.inhatc.inhatc.entity.LikeCounterShardEntity;
+import kr.co.inhatc.inhatc.repository.LikeCounterShardRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeCounterService 단위 테스트")
+class LikeCounterServiceTest {
+
+    @Mock
+    private LikeCounterShardRepository shardRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private LikeCounterService likeCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeCounterService, "shardCount", 4);
+        ReflectionTestUtils.setField(likeCounterService, "compactBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("샤드 행이 없으면 새로 생성")
+    void add_CreatesShardWhenMissing() {
+        // given
+        when(shardRepository.addDelta(eq(1L), anyInt(), eq(1L))).thenReturn(0);
+
+        // when
+        likeCounterService.add(1L, 1);
+
+        // then
+        verify(shardRepository, times(1)).save(any(LikeCounterShardEntity.class));
+    }
+
+    @Test
+    @DisplayName("샤드 합계를 게시글에 반영하고 읽은 샤드만 삭제")
+    void compact_FoldsShardsIntoPost() {
+        // given
+        LikeCounterShardEntity a = shard(10L, 1L, 3);
+        LikeCounterShardEntity b = shard(11L, 1L, -1);
+        LikeCounterShardEntity c = shard(12L, 2L, 2);
+        when(shardRepository.findPostIdsWithDelta(any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(shardRepository.findByPostIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(a, b, c));
+
+        // when
+        likeCounterService.compact();
+
+        // then
+        verify(postRepository, times(1)).addLove(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(2));
+        verify(shardRepository, times(1)).deleteAllByIdInBatch(List.of(10L, 11L, 12L));
+    }
+
+    private LikeCounterShardEntity shard(Long id, Long postId, long delta) {
+        LikeCounterShardEntity shard = new LikeCounterShardEntity(postId, 0, delta);
+        ReflectionTestUtils.setField(shard, "id", id);
+        return shard;
+    }
+}
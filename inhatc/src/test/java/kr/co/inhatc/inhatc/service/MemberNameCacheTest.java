@@ -0,0 +1,83 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.inhatc.inhatc.entity.MemberEntity;
+import kr.co.inhatc.inhatc.repository.MemberRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberNameCache 단위 테스트")
+class MemberNameCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberNameCache cache;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberNameCache(memberRepository, 100, 60);
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        setNow(now);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 이메일만 한 번의 IN 쿼리로 조회")
+    void getNames_LoadsMissingInOneQuery() {
+        // given
+        when(memberRepository.findByMemberEmailIn(anyList()))
+                .thenReturn(List.of(member("a@test.com", "A")))
+                .thenReturn(List.of(member("b@test.com", "B")));
+        cache.getName("a@test.com");
+
+        // when
+        Map<String, String> names = cache.getNames(List.of("a@test.com", "b@test.com", "b@test.com", "ghost@test.com"));
+
+        // then
+        assertEquals(Map.of("a@test.com", "A", "b@test.com", "B"), names);
+        verify(memberRepository).findByMemberEmailIn(List.of("b@test.com", "ghost@test.com"));
+        verify(memberRepository, times(2)).findByMemberEmailIn(anyList());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    void getName_ReloadsAfterTtl() {
+        // given
+        when(memberRepository.findByMemberEmailIn(List.of("a@test.com"))).thenReturn(List.of(member("a@test.com", "A")));
+        cache.getName("a@test.com");
+        cache.getName("a@test.com");
+
+        // when
+        setNow(now.plus(Duration.ofSeconds(61)));
+        cache.getName("a@test.com");
+
+        // then
+        verify(memberRepository, times(2)).findByMemberEmailIn(List.of("a@test.com"));
+    }
+
+    private MemberEntity member(String email, String name) {
+        return MemberEntity.builder().memberEmail(email).memberName(name).memberPassword("pw").build();
+    }
+
+    private void setNow(Instant instant) {
+        ReflectionTestUtils.setField(cache, "clock", Clock.fixed(instant, ZoneId.of("UTC")));
+    }
+}
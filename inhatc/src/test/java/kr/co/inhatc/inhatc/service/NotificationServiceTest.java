@@ -0,0 +1,156 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
+import kr.co.inhatc.inhatc.dto.NotificationDTO;
+import kr.co.inhatc.inhatc.entity.NotificationEntity;
+import kr.co.inhatc.inhatc.entity.PostEntity;
+import kr.co.inhatc.inhatc.repository.NotificationRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 단위 테스트")
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private MemberNameCache memberNameCache;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Test
+    @DisplayName("알림 기록 커서 조회 - 한 개 더 조회하여 다음 커서 생성, 작성자 이름은 한 번에 조회")
+    void getNotificationsByCursor_ReturnsNextCursor() {
+        // given
+        PostEntity post = PostEntity.builder().id(1L).memberEmail("owner@test.com").content("게시글").build();
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        NotificationEntity first = notification(3L, post, "a@test.com", createdAt);
+        NotificationEntity second = notification(2L, post, "b@test.com", createdAt);
+        NotificationEntity extra = notification(1L, post, "a@test.com", createdAt.minusMinutes(1));
+
+        when(notificationRepository.findHistoryFirstPage(eq("owner@test.com"), any(Pageable.class)))
+                .thenReturn(List.of(first, second, extra));
+        when(memberNameCache.getNames(anyCollection())).thenReturn(Map.of("a@test.com", "A", "b@test.com", "B"));
+
+        // when
+        CursorPageDTO<NotificationDTO> page = notificationService.getNotificationsByCursor("owner@test.com", "", 2);
+
+        // then
+        assertEquals(2, page.getContent().size());
+        assertEquals("B", page.getContent().get(1).getActorName());
+        assertTrue(page.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(createdAt, next.getCreatedAt());
+        assertEquals(2L, next.getId());
+        verify(memberNameCache, times(1)).getNames(anyCollection());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 커서 조회 - 커서 이후 키셋으로 조회하고 마지막 페이지면 다음 커서 없음")
+    void getUnreadNotificationsByCursor_LastPage() {
+        // given
+        PostEntity post = PostEntity.builder().id(1L).memberEmail("owner@test.com").content("게시글").build();
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        String cursor = KeysetCursor.encode(createdAt, 5L);
+        when(notificationRepository.findUnreadAfter(eq("owner@test.com"), eq(createdAt), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(notification(4L, post, "a@test.com", createdAt)));
+        when(memberNameCache.getNames(anyCollection())).thenReturn(Map.of("a@test.com", "A"));
+
+        // when
+        CursorPageDTO<NotificationDTO> page = notificationService.getUnreadNotificationsByCursor("owner@test.com", cursor, 2);
+
+        // then
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        verify(notificationRepository, never()).findUnreadFirstPage(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("단건 읽음 처리 - 조건부 UPDATE가 변경한 경우에만 읽지 않은 알림 수 차감")
+    void markAsRead_DecrementsOnlyWhenUpdated() {
+        // given
+        when(notificationRepository.findRecipientEmailById(1L)).thenReturn(Optional.of("owner@test.com"));
+        when(notificationRepository.markAsRead(1L)).thenReturn(1, 0);
+
+        // when
+        notificationService.markAsRead(1L);
+        notificationService.markAsRead(1L);
+
+        // then
+        verify(unreadNotificationCounter, times(1)).add("owner@test.com", -1);
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 - UPDATE 1회로 처리하고 처리된 수만큼 읽지 않은 알림 수 차감")
+    void markAllAsRead_ReturnsUpdatedCountAndDecrementsCounter() {
+        // given
+        when(notificationRepository.markAllAsRead("owner@test.com", null)).thenReturn(3);
+
+        // when
+        int updated = notificationService.markAllAsRead("owner@test.com", null);
+
+        // then
+        assertEquals(3, updated);
+        verify(unreadNotificationCounter).add("owner@test.com", -3);
+        verify(notificationRepository, never()).findHistoryFirstPage(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 - upToId를 UPDATE 조건으로 전달하고, 처리된 알림이 없으면 차감량 0")
+    void markAllAsRead_PassesUpToIdBound() {
+        // given
+        when(notificationRepository.markAllAsRead("owner@test.com", 10L)).thenReturn(0);
+
+        // when
+        int updated = notificationService.markAllAsRead("owner@test.com", 10L);
+
+        // then
+        assertEquals(0, updated);
+        verify(notificationRepository).markAllAsRead("owner@test.com", 10L);
+        verify(unreadNotificationCounter).add("owner@test.com", 0);
+    }
+
+    private NotificationEntity notification(Long id, PostEntity post, String actorEmail, LocalDateTime createdAt) {
+        NotificationEntity notification = NotificationEntity.builder()
+                .post(post)
+                .notificationType("LIKE")
+                .actorEmail(actorEmail)
+                .recipientEmail(post.getMemberEmail())
+                .build();
+        notification.setId(id);
+        notification.setCreatedAt(createdAt);
+        return notification;
+    }
+}
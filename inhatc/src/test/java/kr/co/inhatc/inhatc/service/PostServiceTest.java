@@ -4,9 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,12 +19,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import kr.co.inhatc.inhatc.dto.CursorPageDTO;
 import kr.co.inhatc.inhatc.dto.PostResponseDTO;
 import kr.co.inhatc.inhatc.entity.MemberEntity;
 import kr.co.inhatc.inhatc.entity.PostEntity;
@@ -29,6 +38,9 @@ import kr.co.inhatc.inhatc.exception.ErrorCode;
 import kr.co.inhatc.inhatc.repository.LikeRepository;
 import kr.co.inhatc.inhatc.repository.MemberRepository;
 import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.projection.PostKeyView;
+import kr.co.inhatc.inhatc.repository.projection.PostListView;
+import kr.co.inhatc.inhatc.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PostService 단위 테스트")
@@ -46,6 +58,21 @@ class PostServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private TimelineService timelineService;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private LikeCounterService likeCounterService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PostService postService;
 
@@ -84,6 +111,7 @@ class PostServiceTest {
         when(postRepository.findById(postId)).thenReturn(Optional.of(testPost));
         when(memberRepository.findByMemberEmail(testPost.getMemberEmail()))
                 .thenReturn(Optional.of(testMember));
+        when(postViewCounter.pendingHits(postId)).thenReturn(4L);
 
         // when
         PostResponseDTO result = postService.findById(postId);
@@ -92,8 +120,54 @@ class PostServiceTest {
         assertNotNull(result);
         assertEquals(testPost.getId(), result.getId());
         assertEquals(testPost.getContent(), result.getContent());
+        assertEquals(4, result.getHits()); // DB 값 + 반영 대기 중인 조회수
+        assertEquals(0, testPost.getHits()); // 엔티티는 수정하지 않음
         verify(postRepository, times(1)).findById(postId);
         verify(memberRepository, times(1)).findByMemberEmail(testPost.getMemberEmail());
+        verify(postViewCounter, times(1)).increment(postId);
+    }
+
+    @Test
+    @DisplayName("게시글 ID로 조회 - 미반영 좋아요 수 합산")
+    void findById_AddsPendingLikes() {
+        // given
+        testPost.setLove(10);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(likeCounterService.pendingDeltas(Set.of(1L))).thenReturn(Map.of(1L, -3L));
+
+        // when
+        PostResponseDTO result = postService.findById(1L, false);
+
+        // then
+        assertEquals(7, result.getLove());
+    }
+
+    @Test
+    @DisplayName("게시글 ID로 조회 - 조회수 미증가 (내부 조회)")
+    void findById_WithoutCountingView() {
+        // given
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+
+        // when
+        postService.findById(1L, false);
+
+        // then
+        verify(postViewCounter, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 ID로 조회 - 삭제된 게시글은 조회수/인기 집계에 포함하지 않음")
+    void findById_DeletedPostNotCounted() {
+        // given
+        testPost.delete();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+
+        // when
+        postService.findById(1L);
+
+        // then
+        verify(postViewCounter, never()).increment(anyLong());
+        verify(trendingService, never()).recordView(anyLong());
     }
 
     @Test
@@ -116,10 +190,10 @@ class PostServiceTest {
     @DisplayName("삭제되지 않은 게시글 전체 조회")
     void findAll_Success() {
         // given
-        List<PostEntity> posts = new ArrayList<>();
-        posts.add(testPost);
+        List<PostListView> posts = new ArrayList<>();
+        posts.add(view(testPost, 3L));
         
-        when(postRepository.findAllWithCommentsByDeleteYn('N')).thenReturn(posts);
+        when(postRepository.findListViewsByDeleteYn('N')).thenReturn(posts);
         when(memberRepository.findByMemberEmailIn(anyList()))
                 .thenReturn(List.of(testMember));
 
@@ -129,7 +203,8 @@ class PostServiceTest {
         // then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(postRepository, times(1)).findAllWithCommentsByDeleteYn('N');
+        assertEquals(3L, result.get(0).getCommentCount());
+        verify(postRepository, times(1)).findListViewsByDeleteYn('N');
         verify(memberRepository, times(1)).findByMemberEmailIn(anyList());
     }
 
@@ -157,6 +232,265 @@ class PostServiceTest {
         verify(postRepository, times(1)).findByDeleteYnOrderByCreatedDateDesc('N', pageable);
     }
 
+    @Test
+    @DisplayName("커서 페이징 첫 페이지 조회 - 다음 커서 생성")
+    void findAllByCursor_FirstPage() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<PostListView> posts = new ArrayList<>();
+        for (long i = 3; i >= 1; i--) {
+            posts.add(view(PostEntity.builder()
+                    .id(i)
+                    .memberEmail("test@example.com")
+                    .content("게시글 " + i)
+                    .deleteYn('N')
+                    .createdDate(now.minusMinutes(3 - i))
+                    .build(), 0L));
+        }
+
+        // size=2 요청 시 3개(size + 1)를 조회하여 다음 페이지 여부 판단
+        when(postRepository.findFeedFirstPage('N', PageRequest.of(0, 3))).thenReturn(posts);
+        when(memberRepository.findByMemberEmailIn(anyList())).thenReturn(List.of(testMember));
+
+        // when
+        CursorPageDTO<PostResponseDTO> result = postService.findAllByCursor("", 2);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(now.minusMinutes(1), next.getCreatedAt());
+        verify(postRepository, never()).findByDeleteYnOrderByCreatedDateDesc(eq('N'), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 페이징 마지막 페이지 조회 - 다음 커서 없음")
+    void findAllByCursor_LastPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        String cursor = KeysetCursor.encode(createdAt, 10L);
+        testPost.setCreatedDate(createdAt.minusDays(1));
+
+        when(postRepository.findFeedPageAfter('N', createdAt, 10L, PageRequest.of(0, 21)))
+                .thenReturn(List.of(view(testPost, 0L)));
+        when(memberRepository.findByMemberEmailIn(anyList())).thenReturn(List.of(testMember));
+
+        // when
+        CursorPageDTO<PostResponseDTO> result = postService.findAllByCursor(cursor, 20);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 페이징 실패 - 잘못된 커서")
+    void findAllByCursor_InvalidCursor() {
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            postService.findAllByCursor("not-a-cursor", 20);
+        });
+
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("팔로잉 피드 조회 - 타임라인 순서 유지, 삭제된 게시글 제외")
+    void findFollowingPosts_ReadsTimelineSlice() {
+        // given
+        PostEntity newer = PostEntity.builder().id(2L).memberEmail("test@example.com")
+                .content("최신 게시글").deleteYn('N').build();
+
+        // 삭제된 게시글(3번)은 조회 쿼리에서 제외됨
+        when(timelineService.getTimelinePostIds("test@example.com")).thenReturn(List.of(2L, 3L, 1L));
+        when(postRepository.findListViewsByIds(List.of(2L, 3L, 1L)))
+                .thenReturn(List.of(view(testPost, 0L), view(newer, 0L)));
+        when(memberRepository.findByMemberEmailIn(anyList())).thenReturn(List.of(testMember));
+
+        // when
+        List<PostResponseDTO> result = postService.findFollowingPosts("test@example.com");
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("팔로잉 피드 커서 조회 - 병합된 키 순서로 페이지 구성")
+    void findFollowingPostsByCursor_FirstPage() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        PostEntity second = PostEntity.builder().id(2L).memberEmail("test@example.com")
+                .content("두번째").deleteYn('N').createdDate(now.minusHours(1)).build();
+        testPost.setCreatedDate(now);
+
+        List<PostKeyView> keys = List.of(key(1L, now), key(2L, now.minusHours(1)), key(3L, now.minusHours(2)));
+        when(timelineService.mergeFollowingKeys("test@example.com", null, 3)).thenReturn(keys);
+        when(postRepository.findListViewsByIds(List.of(1L, 2L)))
+                .thenReturn(List.of(view(second, 0L), view(testPost, 0L)));
+        when(memberRepository.findByMemberEmailIn(anyList())).thenReturn(List.of(testMember));
+
+        // when
+        CursorPageDTO<PostResponseDTO> result = postService.findFollowingPostsByCursor("test@example.com", null, 2);
+
+        // then
+        assertEquals(List.of(1L, 2L), result.getContent().stream().map(PostResponseDTO::getId).toList());
+        assertTrue(result.isHasNext());
+        assertEquals(2L, KeysetCursor.decode(result.getNextCursor()).getId());
+    }
+
+    private PostListView view(PostEntity post, long commentCount) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", post.getId());
+        values.put("content", post.getContent());
+        values.put("hits", post.getHits());
+        values.put("love", post.getLove());
+        values.put("memberEmail", post.getMemberEmail());
+        values.put("deleteYn", post.getDeleteYn());
+        values.put("createdDate", post.getCreatedDate());
+        values.put("commentCount", commentCount);
+        return new SpelAwareProxyProjectionFactory().createProjection(PostListView.class, values);
+    }
+
+    private PostKeyView key(Long id, LocalDateTime createdDate) {
+        return new PostKeyView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedDate() {
+                return createdDate;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 - 취소할 좋아요가 없으면 등록하고 샤드 카운터 증가")
+    void toggleLove_LikesWhenNotLiked() {
+        // given
+        runTransactionCallbacks();
+        when(memberRepository.findByMemberEmail("test@example.com")).thenReturn(Optional.of(testMember));
+        when(likeRepository.deleteByPostIdAndMemberId(1L, 1L)).thenReturn(0);
+        when(likeRepository.insertIfAbsent(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        boolean liked = postService.toggleLove(1L, "test@example.com");
+
+        // then
+        assertTrue(liked);
+        verify(likeCounterService, times(1)).add(1L, 1);
+        verify(postRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 - 이미 좋아요한 경우 변경 없음 (멱등)")
+    void like_AlreadyLiked() {
+        // given
+        runTransactionCallbacks();
+        when(likeRepository.insertIfAbsent(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(0);
+        when(postRepository.existsByIdAndDeleteYn(1L, 'N')).thenReturn(true);
+
+        // when
+        boolean changed = postService.like(1L, 1L, "test@example.com");
+
+        // then
+        assertFalse(changed);
+        verify(likeCounterService, never()).add(anyLong(), anyLong());
+        verify(notificationService, never()).createLikeNotification(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 - 동시 요청이 먼저 등록해 제약 위반이면 이미 좋아요 상태로 처리")
+    void like_ConcurrentDuplicate() {
+        // given
+        runTransactionCallbacks();
+        when(likeRepository.insertIfAbsent(eq(1L), eq(1L), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_like_post_member"));
+        when(postRepository.existsByIdAndDeleteYn(1L, 'N')).thenReturn(true);
+
+        // when
+        boolean changed = postService.like(1L, 1L, "test@example.com");
+
+        // then
+        assertFalse(changed);
+        verify(likeCounterService, never()).add(anyLong(), anyLong());
+        verify(trendingService, never()).recordLike(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 존재하지 않는 게시글")
+    void like_PostNotFound() {
+        // given
+        runTransactionCallbacks();
+        when(likeRepository.insertIfAbsent(eq(999L), eq(1L), any(LocalDateTime.class))).thenReturn(0);
+        when(postRepository.existsByIdAndDeleteYn(999L, 'N')).thenReturn(false);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.like(999L, 1L, "test@example.com"));
+        assertEquals(ErrorCode.POSTS_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 - 삭제된 행이 있을 때만 샤드 카운터 감소")
+    void unlike_DecrementsOnlyWhenDeleted() {
+        // given
+        runTransactionCallbacks();
+        when(likeRepository.deleteByPostIdAndMemberId(1L, 1L)).thenReturn(1, 0);
+
+        // when
+        boolean first = postService.unlike(1L, 1L);
+        boolean second = postService.unlike(1L, 1L);
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        verify(likeCounterService, times(1)).add(1L, -1);
+    }
+
+    @Test
+    @DisplayName("조회자 좋아요 여부 표시 - 페이지당 ID 조회 1회")
+    void markLikedByViewer_SingleIdQuery() {
+        // given
+        PostResponseDTO first = PostResponseDTO.builder().id(1L).build();
+        PostResponseDTO second = PostResponseDTO.builder().id(2L).build();
+        when(likeRepository.findLikedPostIds(7L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        // when
+        postService.markLikedByViewer(List.of(first, second), 7L);
+
+        // then
+        assertFalse(first.isLikedByViewer());
+        assertTrue(second.isLikedByViewer());
+        verify(likeRepository, times(1)).findLikedPostIds(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("조회자 좋아요 여부 표시 - 비로그인 시 조회하지 않음")
+    void markLikedByViewer_Anonymous() {
+        postService.markLikedByViewer(List.of(PostResponseDTO.builder().id(1L).build()), null);
+
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("게시글 저장 시 타임라인 fan-out")
+    void savePost_FansOutToTimeline() {
+        // given
+        when(memberRepository.findByMemberEmail("test@example.com")).thenReturn(Optional.of(testMember));
+        when(postRepository.save(any(PostEntity.class))).thenReturn(testPost);
+
+        // when
+        postService.savePost("test@example.com", "내용", null);
+
+        // then
+        verify(timelineService, times(1)).fanOut(testPost);
+    }
+
     @Test
     @DisplayName("게시글 삭제 성공")
     void delete_Success() {
@@ -172,6 +506,7 @@ class PostServiceTest {
         assertEquals('Y', testPost.getDeleteYn());
         verify(postRepository, times(1)).findById(postId);
         verify(postRepository, times(1)).save(testPost);
+        verify(timelineService, times(1)).removePost(postId);
     }
 
     @Test
@@ -190,5 +525,12 @@ class PostServiceTest {
         verify(postRepository, times(1)).findById(postId);
         verify(postRepository, never()).save(any());
     }
-}
 
+    /**
+     * TransactionTemplate 콜백을 바로 실행
+     */
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
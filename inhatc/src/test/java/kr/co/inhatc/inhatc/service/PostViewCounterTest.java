@@ -0,0 +1,109 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.co.inhatc.inhatc.repository.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCounter 단위 테스트")
+class PostViewCounterTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostViewCounter postViewCounter;
+
+    @Test
+    @DisplayName("누적 조회수를 증가량별로 묶어 일괄 반영")
+    void flush_GroupsByDelta() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+        postViewCounter.increment(3L);
+        postViewCounter.increment(3L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(postRepository, times(1)).addHits(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2), eq(1));
+        verify(postRepository, times(1)).addHits(List.of(3L), 2);
+        assertEquals(0, postViewCounter.pendingHits(3L));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 조회수를 되돌려 다음 주기에 재시도")
+    void flush_RestoresOnFailure() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        when(postRepository.addHits(List.of(1L), 2)).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertEquals(2, postViewCounter.pendingHits(1L));
+    }
+
+    @Test
+    @DisplayName("flush와 동시에 들어온 조회수도 누락 없이 반영")
+    void flush_ConcurrentIncrementsAreNotLost() throws Exception {
+        // given
+        AtomicLong written = new AtomicLong();
+        when(postRepository.addHits(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            int delta = invocation.getArgument(1);
+            written.addAndGet((long) ids.size() * delta);
+            return ids.size();
+        });
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long postId = t % 2 + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    postViewCounter.increment(postId);
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        while (futures.stream().anyMatch(f -> !f.isDone())) {
+            postViewCounter.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        postViewCounter.flush();
+
+        // then
+        assertEquals((long) threads * perThread, written.get());
+        assertEquals(0, postViewCounter.pendingHits(1L) + postViewCounter.pendingHits(2L));
+    }
+}
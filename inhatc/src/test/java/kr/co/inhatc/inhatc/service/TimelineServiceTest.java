@@ -0,0 +1,121 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.inhatc.inhatc.repository.FollowRepository;
+import kr.co.inhatc.inhatc.repository.PostRepository;
+import kr.co.inhatc.inhatc.repository.TimelineRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineService 단위 테스트")
+class TimelineServiceTest {
+
+    @Mock
+    private TimelineRepository timelineRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timelineService, "maxSize", 500);
+        ReflectionTestUtils.setField(timelineService, "readSize", 100);
+        ReflectionTestUtils.setField(timelineService, "fanOutMaxFollowers", 1000L);
+        ReflectionTestUtils.setField(timelineService, "emptyCacheMaxSize", 100);
+        ReflectionTestUtils.setField(timelineService, "emptyCacheTtlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("재구성해도 비어 있는 타임라인은 다음 조회 시 다시 재구성하지 않음")
+    void getTimelinePostIds_RebuildsEmptyTimelineOnce() {
+        // given
+        when(timelineRepository.existsByMemberEmail("user@test.com")).thenReturn(false);
+        when(followRepository.findFollowingEmails("user@test.com")).thenReturn(List.of());
+        when(postRepository.findRecentKeysByMemberEmails(anyList(), any(Pageable.class))).thenReturn(List.of());
+        when(timelineRepository.backfill(eq("user@test.com"), anyList(), any(LocalDateTime.class))).thenReturn(0);
+        when(timelineRepository.findSlice(eq("user@test.com"), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        List<Long> first = timelineService.getTimelinePostIds("user@test.com");
+        List<Long> second = timelineService.getTimelinePostIds("user@test.com");
+
+        // then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(timelineRepository, times(1)).existsByMemberEmail("user@test.com");
+        verify(timelineRepository, times(1)).backfill(eq("user@test.com"), anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 사용자가 없으면 조회 시 팔로잉 조회 쿼리를 실행하지 않고, 있으면 목록 안에서만 조회")
+    void getTimelinePostIds_UsesCachedMergeOnReadAuthors() {
+        // given
+        when(timelineRepository.existsByMemberEmail("user@test.com")).thenReturn(true);
+        when(timelineRepository.findSlice(eq("user@test.com"), any(Pageable.class))).thenReturn(List.of());
+        timelineService.getTimelinePostIds("user@test.com");
+        verifyNoInteractions(followRepository);
+
+        when(followRepository.findEmailsWithFollowersOver(1000L)).thenReturn(List.of("star@test.com"));
+        when(followRepository.findFollowingEmailsIn("user@test.com", Set.of("star@test.com")))
+                .thenReturn(List.of("star@test.com"));
+        when(postRepository.findRecentKeysByMemberEmail(eq("star@test.com"), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        timelineService.refreshMergeOnReadAuthors();
+        timelineService.getTimelinePostIds("user@test.com");
+
+        // then
+        verify(followRepository, times(1)).findFollowingEmailsIn("user@test.com", Set.of("star@test.com"));
+        verify(postRepository, times(1)).findRecentKeysByMemberEmail(eq("star@test.com"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("병합 대상에서 빠진 사용자는 다음 갱신까지 조회 시 병합하고, 다음 갱신에서 팔로워 타임라인에 백필")
+    void refreshMergeOnReadAuthors_BackfillsDemotedAuthor() {
+        // given
+        when(followRepository.findEmailsWithFollowersOver(1000L))
+                .thenReturn(List.of("star@test.com"), List.of(), List.of());
+        when(postRepository.findKeysByMemberEmailBefore(eq("star@test.com"), any(LocalDateTime.class), eq(0L),
+                any(Pageable.class))).thenReturn(List.of());
+        when(timelineRepository.existsByMemberEmail("user@test.com")).thenReturn(true);
+        when(timelineRepository.findSlice(eq("user@test.com"), any(Pageable.class))).thenReturn(List.of());
+        when(followRepository.findFollowingEmailsIn("user@test.com", Set.of("star@test.com")))
+                .thenReturn(List.of("star@test.com"));
+        when(postRepository.findRecentKeysByMemberEmail(eq("star@test.com"), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        timelineService.refreshMergeOnReadAuthors(); // 목록 진입
+        timelineService.refreshMergeOnReadAuthors(); // 목록에서 빠짐
+        timelineService.getTimelinePostIds("user@test.com");
+        verify(timelineRepository, never()).backfillFollowers(anyString(), any(), any());
+        timelineService.refreshMergeOnReadAuthors(); // 백필 후 병합 대상에서 제외
+        timelineService.getTimelinePostIds("user@test.com");
+
+        // then
+        verify(timelineRepository, times(1)).backfillFollowers(eq("star@test.com"), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+        verify(followRepository, times(1)).findFollowingEmailsIn("user@test.com", Set.of("star@test.com"));
+    }
+}
@@ -0,0 +1,122 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.inhatc.inhatc.entity.TrendingScoreEntity;
+import kr.co.inhatc.inhatc.repository.TrendingScoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrendingService 단위 테스트")
+class TrendingServiceTest {
+
+    private static final Instant START = Instant.parse("2024-05-01T00:00:00Z");
+
+    @Mock
+    private TrendingScoreRepository trendingScoreRepository;
+
+    @InjectMocks
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(trendingService, "halfLifeMinutes", 60L);
+        ReflectionTestUtils.setField(trendingService, "capacity", 2);
+        ReflectionTestUtils.setField(trendingService, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(trendingService, "likeWeight", 5.0);
+        ReflectionTestUtils.setField(trendingService, "commentWeight", 3.0);
+        ReflectionTestUtils.setField(trendingService, "landmark", START);
+        setNow(START);
+    }
+
+    @Test
+    @DisplayName("최근 이벤트가 오래된 이벤트보다 높은 점수를 가짐 (시간 감쇠)")
+    void topPostIds_DecaysOlderEvents() {
+        // given: 1번은 좋아요 1회(5점), 3시간 뒤 2번은 조회 1회(1점 → 1시간 반감기로 1번은 5/8점)
+        trendingService.recordLike(1L);
+        setNow(START.plus(Duration.ofHours(3)));
+        trendingService.recordView(2L);
+        trendingService.foldViews();
+
+        // when
+        List<Long> top = trendingService.topPostIds(10);
+
+        // then
+        assertEquals(List.of(2L, 1L), top);
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 점수가 가장 낮은 게시글 제거, 좋아요 취소 시 점수 감소")
+    void record_EvictsLowestAndSubtractsUnlike() {
+        // given
+        trendingService.recordComment(1L);
+        trendingService.recordLike(2L);
+        trendingService.recordView(3L);
+        trendingService.foldViews(); // capacity=2 → 가장 낮은 3번 제거
+
+        // when
+        trendingService.recordUnlike(2L); // 점수 0 → 순위에서 제거
+
+        // then
+        assertEquals(List.of(1L), trendingService.topPostIds(10));
+    }
+
+    @Test
+    @DisplayName("조회는 모아 두었다가 한 번에 반영하고, 조회가 없던 게시글의 누적기는 제거")
+    void foldViews_AppliesBufferedViews() {
+        // given
+        trendingService.recordLike(1L);
+        for (int i = 0; i < 6; i++) {
+            trendingService.recordView(2L);
+        }
+        assertEquals(List.of(1L), trendingService.topPostIds(10));
+
+        // when
+        trendingService.foldViews();
+        trendingService.foldViews();
+
+        // then: 2번 조회 6회(6점) > 1번 좋아요 1회(5점)
+        assertEquals(List.of(2L, 1L), trendingService.topPostIds(10));
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(trendingService, "pendingViews")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("체크포인트는 현재 시각 기준 감쇠 점수로 저장")
+    void checkpoint_SavesDecayedScores() {
+        // given
+        trendingService.recordLike(1L);
+        setNow(START.plus(Duration.ofHours(1)));
+
+        // when
+        trendingService.checkpoint();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TrendingScoreEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trendingScoreRepository).deleteAllInBatch();
+        verify(trendingScoreRepository).saveAll(captor.capture());
+        assertEquals(2.5, captor.getValue().get(0).getScore(), 1e-9);
+    }
+
+    private void setNow(Instant now) {
+        ReflectionTestUtils.setField(trendingService, "clock", Clock.fixed(now, ZoneId.of("UTC")));
+    }
+}
@@ -0,0 +1,85 @@
+package kr.co.inhatc.inhatc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.co.inhatc.inhatc.repository.MemberRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadNotificationCounter 단위 테스트")
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private UnreadNotificationCounter counter;
+
+    @Test
+    @DisplayName("변경이 없으면 캐시 값을 사용하고, 증감은 컬럼을 다시 읽지 않고 캐시 값에 반영")
+    void get_AppliesDeltaToCachedValue() {
+        // given
+        when(memberRepository.findUnreadNotificationCount("user@test.com")).thenReturn(Optional.of(2L));
+
+        // when
+        long initial = counter.get("user@test.com");
+        long cached = counter.get("user@test.com");
+        counter.add("user@test.com", 1);
+        long afterCreate = counter.get("user@test.com");
+        counter.add("user@test.com", -5);
+        long afterRead = counter.get("user@test.com");
+
+        // then
+        assertEquals(2, initial);
+        assertEquals(2, cached);
+        assertEquals(3, afterCreate);
+        assertEquals(0, afterRead); // 음수가 되지 않음
+        verify(memberRepository, times(1)).findUnreadNotificationCount("user@test.com");
+        verify(memberRepository).addUnreadNotificationCount("user@test.com", 1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원의 증감은 캐시에 값을 만들지 않음")
+    void add_SkipsUncachedMember() {
+        // given
+        when(memberRepository.findUnreadNotificationCount("user@test.com")).thenReturn(Optional.of(5L));
+
+        // when
+        counter.add("user@test.com", 1);
+        long loaded = counter.get("user@test.com");
+
+        // then
+        assertEquals(5, loaded); // 이미 증감이 반영된 컬럼 값
+    }
+
+    @Test
+    @DisplayName("보정 후 캐시를 비워 다음 조회 시 컬럼을 다시 읽음")
+    void reconcile_ClearsCache() {
+        // given
+        ReflectionTestUtils.setField(counter, "batchSize", 1000L);
+        when(memberRepository.findUnreadNotificationCount("user@test.com"))
+                .thenReturn(Optional.of(7L), Optional.of(4L));
+        when(memberRepository.findMaxId()).thenReturn(1500L);
+        when(memberRepository.reconcileUnreadNotificationCounts(anyLong(), anyLong())).thenReturn(1);
+        counter.get("user@test.com");
+
+        // when
+        counter.reconcile();
+
+        // then
+        verify(memberRepository).reconcileUnreadNotificationCounts(1L, 1000L);
+        verify(memberRepository).reconcileUnreadNotificationCounts(1001L, 2000L);
+        assertEquals(4, counter.get("user@test.com"));
+    }
+}
@@ -0,0 +1,62 @@
+package kr.co.inhatc.inhatc.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import kr.co.inhatc.inhatc.dto.CommentResponseDTO;
+
+@DisplayName("CommentTreeBuilder 단위 테스트")
+class CommentTreeBuilderTest {
+
+    @Test
+    @DisplayName("답글의 답글까지 계층 구조로 조립")
+    void build_NestedReplies() {
+        // given: 1 ← 2 ← 3, 1 ← 4, 5 (최상위)
+        List<CommentResponseDTO> comments = List.of(
+                comment(1L, null), comment(2L, 1L), comment(3L, 2L), comment(4L, 1L), comment(5L, null));
+
+        // when
+        List<CommentResponseDTO> roots = CommentTreeBuilder.build(comments, 10);
+
+        // then
+        assertEquals(List.of(1L, 5L), ids(roots));
+        assertEquals(List.of(2L, 4L), ids(roots.get(0).getReplies()));
+        assertEquals(List.of(3L), ids(roots.get(0).getReplies().get(0).getReplies()));
+    }
+
+    @Test
+    @DisplayName("최대 깊이보다 깊은 답글은 최대 깊이의 목록으로 접음")
+    void build_CollapsesBeyondMaxDepth() {
+        // given: 1 ← 2 ← 3 ← 4 (깊이 0, 1, 2, 3)
+        List<CommentResponseDTO> comments = List.of(
+                comment(1L, null), comment(2L, 1L), comment(3L, 2L), comment(4L, 3L));
+
+        // when
+        List<CommentResponseDTO> roots = CommentTreeBuilder.build(comments, 1);
+
+        // then: 깊이 1 목록에 2, 3, 4가 순서대로 위치
+        assertEquals(List.of(1L), ids(roots));
+        assertEquals(List.of(2L, 3L, 4L), ids(roots.get(0).getReplies()));
+        assertTrue(roots.get(0).getReplies().get(0).getReplies().isEmpty());
+    }
+
+    @Test
+    @DisplayName("부모 댓글이 목록에 없으면 최상위 댓글로 취급")
+    void build_OrphanBecomesRoot() {
+        List<CommentResponseDTO> roots = CommentTreeBuilder.build(List.of(comment(7L, 99L)), 10);
+
+        assertEquals(List.of(7L), ids(roots));
+    }
+
+    private CommentResponseDTO comment(Long id, Long parentId) {
+        return CommentResponseDTO.builder().id(id).parentCommentId(parentId).build();
+    }
+
+    private List<Long> ids(List<CommentResponseDTO> comments) {
+        return comments.stream().map(CommentResponseDTO::getId).toList();
+    }
+}
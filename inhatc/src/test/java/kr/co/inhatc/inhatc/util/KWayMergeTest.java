@@ -0,0 +1,76 @@
+package kr.co.inhatc.inhatc.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KWayMerge 단위 테스트")
+class KWayMergeTest {
+
+    @Test
+    @DisplayName("정렬된 스트림을 하나의 정렬된 결과로 병합")
+    void merge_SortedStreams() {
+        // given
+        List<Iterator<Integer>> sources = List.of(
+                List.of(9, 5, 1).iterator(),
+                List.of(8, 7, 2).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(6, 3).iterator());
+
+        // when
+        List<Integer> result = KWayMerge.merge(sources, Comparator.reverseOrder(), 10);
+
+        // then
+        assertEquals(List.of(9, 8, 7, 6, 5, 3, 2, 1), result);
+    }
+
+    @Test
+    @DisplayName("limit개가 채워지면 더 이상 스트림을 소비하지 않음")
+    void merge_StopsWhenLimitReached() {
+        // given
+        AtomicInteger consumed = new AtomicInteger();
+        Iterator<Integer> counting = new Iterator<>() {
+            private int next = 100;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                consumed.incrementAndGet();
+                return next--;
+            }
+        };
+
+        // when
+        List<Integer> result = KWayMerge.merge(List.of(counting, List.of(50).iterator()), Comparator.reverseOrder(), 3);
+
+        // then
+        assertEquals(List.of(100, 99, 98), result);
+        assertEquals(4, consumed.get()); // 초기 head 1개 + 결과 3개 이후 다음 head 1개
+    }
+
+    @Test
+    @DisplayName("키가 같은 항목은 한 번만 포함하고 중복이 limit을 차지하지 않음")
+    void merge_SkipsDuplicateKeys() {
+        // given
+        List<Iterator<Integer>> sources = List.of(
+                List.of(9, 7, 5).iterator(),
+                List.of(9, 7, 6).iterator());
+
+        // when
+        List<Integer> result = KWayMerge.merge(sources, Comparator.reverseOrder(), 4, Function.identity());
+
+        // then
+        assertEquals(List.of(9, 7, 6, 5), result);
+    }
+}